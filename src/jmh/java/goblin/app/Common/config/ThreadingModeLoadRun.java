@@ -0,0 +1,217 @@
+package goblin.app.Common.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import goblin.app.AppApplication;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationRepository;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+/*
+ * 요청 처리 스레드 모드별 실제 애플리케이션 부하 측정
+ * - AppApplication 을 spring.threads.virtual.enabled=false/true 로 JVM 을 따로 띄워 같은 부하를 줌
+ * - 대상: GET /api/notifications (JWT 필터 -> 수신함 키셋 조회 -> JSON 직렬화), 사용자마다 알림 200 건
+ * - 동시 사용자 수(closed loop)별로 초당 처리 요청 수와 p50/p99 지연을 출력
+ * - 기본 설정: Tomcat 최대 스레드 200, Hikari 최대 풀 10, 인메모리 H2(MySQL 모드)
+ *   => 풀이 10 이라 동시에 DB 를 쓰는 요청은 어느 모드든 10 개, 나머지는 커넥션을 기다림
+ * - 뒤에 붙인 인자는 애플리케이션 설정으로 전달, MySQL 로 재려면 --spring.datasource.url=... 등을 넘김
+ * - 부하를 주는 HTTP 클라이언트도 같은 JVM 에서 돌므로 CPU 가 적은 환경에서는 절대값보다 두 모드의 차이를 볼 것
+ * 실행: ./gradlew loadRun (Java 21 필요, loadRunPlatform 다음 loadRunVirtual)
+ *   설정 변경: -Pload.args="--spring.datasource.hikari.maximum-pool-size=20"
+ */
+public class ThreadingModeLoadRun {
+
+  private static final int USERS = 50;
+  private static final int NOTIFICATIONS_PER_USER = 200;
+  private static final int[] CONCURRENCY = {50, 400};
+  private static final Duration WARMUP = Duration.ofSeconds(10);
+  private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  public static void main(String[] args) throws Exception {
+    // devtools 재시작 클래스로더를 쓰지 않음 (jmh 실행 경로에 함께 올라옴)
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    try (ConfigurableApplicationContext context = start(args)) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      Environment environment = context.getEnvironment();
+      String mode =
+          String.format(
+              "virtual=%-5s tomcat=%s pool=%s",
+              environment.getProperty("spring.threads.virtual.enabled"),
+              environment.getProperty("server.tomcat.threads.max"),
+              environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+      List<String> tokens = seed(context, port);
+      List<String> results = new ArrayList<>();
+      for (int concurrency : CONCURRENCY) {
+        run(port, tokens, concurrency, WARMUP);
+        Result result = run(port, tokens, concurrency, MEASUREMENT);
+        results.add(
+            String.format(
+                "%s concurrency=%3d  %8.0f req/s  p50 %7.1f ms  p99 %7.1f ms  errors %d",
+                mode,
+                concurrency,
+                result.throughput(),
+                result.percentileMillis(50),
+                result.percentileMillis(99),
+                result.errors()));
+      }
+      results.forEach(System.out::println);
+    }
+  }
+
+  // 모드(spring.threads.virtual.enabled)는 인자로 받음, 모드마다 JVM 을 따로 띄워 JIT 예열이 섞이지 않게 함
+  private static ConfigurableApplicationContext start(String[] args) {
+    SpringApplication application = new SpringApplication(AppApplication.class);
+    application.setDefaultProperties(
+        Map.ofEntries(
+            Map.entry("server.port", "0"),
+            Map.entry("server.tomcat.threads.max", "200"),
+            Map.entry("server.tomcat.accept-count", "1000"),
+            Map.entry("spring.threads.virtual.enabled", "false"),
+            Map.entry(
+                "spring.datasource.url",
+                "jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"),
+            Map.entry("spring.datasource.username", "sa"),
+            Map.entry("spring.datasource.hikari.maximum-pool-size", "10"),
+            Map.entry("spring.jpa.hibernate.ddl-auto", "create-drop"),
+            Map.entry("spring.jpa.show-sql", "false"),
+            Map.entry("secret-key", UUID.randomUUID() + "-" + UUID.randomUUID()),
+            Map.entry("logging.level.root", "WARN")));
+    return application.run(args);
+  }
+
+  // 회원가입/로그인으로 토큰을 받고, 수신함이 한 페이지를 채우도록 알림을 미리 저장
+  private static List<String> seed(ConfigurableApplicationContext context, int port)
+      throws Exception {
+    HttpClient client = HttpClient.newHttpClient();
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    NotificationRepository notificationRepository = context.getBean(NotificationRepository.class);
+    List<String> tokens = new ArrayList<>();
+    for (int i = 0; i < USERS; i++) {
+      String loginId = "loaduser" + i;
+      Map<String, String> credentials =
+          Map.of(
+              "loginId", loginId, "password", "password1234", "username", "부하" + (char) ('가' + i));
+      post(client, port, "/api/users/register", credentials);
+      JsonNode auth = post(client, port, "/api/users/login", credentials);
+      tokens.add(auth.get("accessToken").asText());
+
+      User user = userRepository.findByLoginId(loginId).orElseThrow();
+      List<Notification> notifications = new ArrayList<>();
+      for (long seq = 1; seq <= NOTIFICATIONS_PER_USER; seq++) {
+        Notification notification =
+            Notification.builder()
+                .user(user)
+                .msgTitle("새로운 모임 일정이 왔어요!")
+                .eventName("부하 측정 " + seq)
+                .details1("24.11.04 ~ 24.11.08")
+                .details2("1시간 0분")
+                .type(NotificationType.EVENT_CREATED)
+                .build();
+        notification.assignDeliverySeq(seq);
+        notifications.add(notification);
+      }
+      notificationRepository.saveAll(notifications);
+    }
+    return tokens;
+  }
+
+  private static JsonNode post(HttpClient client, int port, String path, Object body)
+      throws Exception {
+    HttpResponse<String> response =
+        client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          path + " 실패: " + response.statusCode() + " " + response.body());
+    }
+    return JSON.readTree(response.body());
+  }
+
+  // concurrency 개의 가상 스레드가 응답을 받자마자 다음 요청을 보냄
+  private static Result run(int port, List<String> tokens, int concurrency, Duration duration)
+      throws Exception {
+    HttpClient client =
+        HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    URI inbox = URI.create("http://localhost:" + port + "/api/notifications?size=20");
+    long deadline = System.nanoTime() + duration.toNanos();
+    AtomicLong errors = new AtomicLong();
+    List<Future<long[]>> workers = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int w = 0; w < concurrency; w++) {
+        String token = tokens.get(w % tokens.size());
+        HttpRequest request =
+            HttpRequest.newBuilder(inbox).header("Authorization", "Bearer " + token).build();
+        workers.add(
+            executor.submit(
+                () -> {
+                  long[] latencies = new long[1024];
+                  int count = 0;
+                  while (System.nanoTime() < deadline) {
+                    long startedAt = System.nanoTime();
+                    HttpResponse<Void> response =
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                      errors.incrementAndGet();
+                      continue;
+                    }
+                    if (count == latencies.length) {
+                      latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - startedAt;
+                  }
+                  return Arrays.copyOf(latencies, count);
+                }));
+      }
+    }
+    List<long[]> perWorker = new ArrayList<>();
+    for (Future<long[]> worker : workers) {
+      perWorker.add(worker.get());
+    }
+    long[] all = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    return new Result(all, errors.get(), duration);
+  }
+
+  private record Result(long[] sortedLatencies, long errors, Duration duration) {
+
+    double throughput() {
+      return sortedLatencies.length / (duration.toMillis() / 1000.0);
+    }
+
+    double percentileMillis(int percentile) {
+      if (sortedLatencies.length == 0) {
+        return Double.NaN;
+      }
+      int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
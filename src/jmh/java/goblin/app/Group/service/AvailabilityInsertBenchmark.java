@@ -0,0 +1,171 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import goblin.app.Common.config.IdSequence;
+
+/*
+ * 가능 시간 500 개 제출의 insert 처리량 비교 (초당 저장 행 수)
+ * - IDENTITY: 변경 전 id 전략, 행마다 insert 를 바로 실행해야 해서 배치가 꺼짐
+ * - POOLED: IdSequence 의 테이블 기반 pooled 할당 + JDBC 배치 (JpaBatchConfig 와 같은 설정)
+ * - available_time 과 같은 컬럼의 엔티티를 인메모리 H2(MySQL 모드)에 저장
+ * - 실제 MySQL 에서는 왕복 시간이 더해지므로 차이가 더 커짐
+ * 실행: ./gradlew jmh -Pjmh.include=AvailabilityInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityInsertBenchmark {
+
+  private static final int SLOTS = 500;
+
+  @Param({"IDENTITY", "POOLED"})
+  public String strategy;
+
+  private SessionFactory sessionFactory;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(IdentitySlot.class)
+            .addAnnotatedClass(PooledSlot.class)
+            .setProperty(
+                "hibernate.connection.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setProperty("hibernate.jdbc.batch_size", "50")
+            .setProperty("hibernate.order_inserts", "true")
+            .buildSessionFactory();
+  }
+
+  // 반복마다 테이블을 비워 행 수가 계속 늘어나지 않게 함
+  @Setup(Level.Iteration)
+  public void truncate() {
+    sessionFactory.inTransaction(
+        session -> {
+          session.createMutationQuery("DELETE FROM IdentitySlot").executeUpdate();
+          session.createMutationQuery("DELETE FROM PooledSlot").executeUpdate();
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SLOTS)
+  public void submitAvailability() {
+    boolean pooled = "POOLED".equals(strategy);
+    LocalDateTime start = LocalDateTime.of(2024, 11, 4, 9, 0);
+    try (Session session = sessionFactory.openSession()) {
+      Transaction transaction = session.beginTransaction();
+      for (int i = 0; i < SLOTS; i++) {
+        LocalDateTime slotStart = start.plusMinutes(30L * i);
+        LocalDateTime slotEnd = slotStart.plusMinutes(30);
+        session.persist(
+            pooled
+                ? new PooledSlot("goblin", 1L, slotStart, slotEnd)
+                : new IdentitySlot("goblin", 1L, slotStart, slotEnd));
+      }
+      transaction.commit();
+    }
+  }
+
+  @Entity(name = "IdentitySlot")
+  @Table(name = "identity_slot")
+  public static class IdentitySlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "login_id", nullable = false)
+    String loginId;
+
+    @Column(nullable = false)
+    Long calendarId;
+
+    @Column(nullable = false)
+    LocalDateTime startTime;
+
+    @Column(nullable = false)
+    LocalDateTime endTime;
+
+    protected IdentitySlot() {}
+
+    IdentitySlot(String loginId, Long calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+      this.loginId = loginId;
+      this.calendarId = calendarId;
+      this.startTime = startTime;
+      this.endTime = endTime;
+    }
+  }
+
+  @Entity(name = "PooledSlot")
+  @Table(name = "pooled_slot")
+  public static class PooledSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_slot_id")
+    @TableGenerator(
+        name = "pooled_slot_id",
+        table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN,
+        valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = "pooled_slot",
+        allocationSize = IdSequence.ALLOCATION_SIZE)
+    Long id;
+
+    @Column(name = "login_id", nullable = false)
+    String loginId;
+
+    @Column(nullable = false)
+    Long calendarId;
+
+    @Column(nullable = false)
+    LocalDateTime startTime;
+
+    @Column(nullable = false)
+    LocalDateTime endTime;
+
+    protected PooledSlot() {}
+
+    PooledSlot(String loginId, Long calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+      this.loginId = loginId;
+      this.calendarId = calendarId;
+      this.startTime = startTime;
+      this.endTime = endTime;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package goblin.app.User.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/*
+ * 요청 하나의 토큰 검증 비용 비교 (초당 검증 수)
+ * - legacyFilterPath: 변경 전 필터 흐름 (extractUsername + validateToken, 매번 키/파서 생성)
+ * - cachedParserFilterPath: 변경 후 흐름 (미리 만든 키/파서로 한 번만 파싱)
+ * 실행: ./gradlew jmh -Pjmh.include=JwtUtilBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+  private JwtUtil jwtUtil;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtil = new JwtUtil(SECRET);
+    token = jwtUtil.createAccessToken("goblin", 1L, "고블린", "ROLE_USER");
+  }
+
+  // 변경 전 JwtUtil.getAllClaimsFromToken 과 같은 방식
+  private static Claims legacyParse(String token) {
+    return Jwts.parserBuilder()
+        .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  @Benchmark
+  public boolean legacyFilterPath() {
+    String loginId = legacyParse(token).getId(); // extractUsername
+    return legacyParse(token).getId().equals(loginId); // validateToken
+  }
+
+  @Benchmark
+  public boolean cachedParserFilterPath() {
+    return jwtUtil.parseValidatedClaims(token).getId() != null;
+  }
+}
@@ -0,0 +1,45 @@
+package goblin.app.Agenda.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import goblin.app.Agenda.model.dto.AgendaItemDTO;
+import goblin.app.Agenda.service.AgendaService;
+import goblin.app.Common.auth.LoginUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/agenda")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "통합 일정")
+public class AgendaController {
+
+  private final AgendaService agendaService;
+
+  // 개인 일정, 그룹 확정 일정, 고정 일정을 시간 순으로 합쳐 조회
+  @Operation(
+      summary = "통합 일정 조회",
+      description = "[from, to) 날짜 범위의 개인 일정, 속한 그룹의 확정 일정, 고정 일정 발생을 시간 순으로 합쳐 조회")
+  @GetMapping
+  public ResponseEntity<?> getAgenda(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @LoginUser String loginId) {
+    try {
+      List<AgendaItemDTO> agenda = agendaService.getAgenda(loginId, from, to);
+      return ResponseEntity.ok(agenda);
+    } catch (RuntimeException e) {
+      log.error("통합 일정 조회 실패: {}", e.getMessage());
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+}
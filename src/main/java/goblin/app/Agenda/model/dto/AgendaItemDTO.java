@@ -0,0 +1,37 @@
+package goblin.app.Agenda.model.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+// 통합 일정(agenda)의 항목 하나: 개인 일정, 확정된 그룹 일정, 고정 일정 발생 중 하나
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgendaItemDTO {
+
+  public enum Type {
+    PERSONAL, // UserCalendar
+    GROUP, // GroupConfirmedCalendar
+    FIXED // FixedSchedule 발생
+  }
+
+  private Type type;
+  private Long id; // 원본 일정 id (PERSONAL: 개인 일정, GROUP: 그룹 일정 calendarId, FIXED: 고정 일정)
+  private Long groupId; // GROUP 일 때만
+  private String groupName; // GROUP 일 때만
+  private String title;
+  private String color;
+
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+  private LocalDateTime startTime;
+
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+  private LocalDateTime endTime;
+}
@@ -0,0 +1,44 @@
+package goblin.app.Agenda.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/*
+ * 이미 정렬된 여러 커서(Iterator)를 하나의 정렬된 결과로 합치는 k-way 병합
+ * - 각 커서의 맨 앞 원소만 우선순위 큐에 두므로 전체를 모아 다시 정렬하지 않음 (O(n log k))
+ * - 같은 순서의 원소는 먼저 넘긴 커서의 것이 앞에 옴 (안정 병합)
+ */
+public final class AgendaMerger {
+
+  private AgendaMerger() {}
+
+  public static <T> List<T> merge(
+      List<? extends Iterator<T>> cursors, Comparator<? super T> order) {
+    PriorityQueue<Head<T>> heads =
+        new PriorityQueue<>(
+            Math.max(1, cursors.size()),
+            Comparator.<Head<T>, T>comparing(head -> head.value, order)
+                .thenComparingInt(head -> head.source));
+    for (int i = 0; i < cursors.size(); i++) {
+      Iterator<T> cursor = cursors.get(i);
+      if (cursor.hasNext()) {
+        heads.add(new Head<>(cursor.next(), i, cursor));
+      }
+    }
+
+    List<T> merged = new ArrayList<>();
+    while (!heads.isEmpty()) {
+      Head<T> head = heads.poll();
+      merged.add(head.value);
+      if (head.cursor.hasNext()) {
+        heads.add(new Head<>(head.cursor.next(), head.source, head.cursor));
+      }
+    }
+    return merged;
+  }
+
+  private record Head<T>(T value, int source, Iterator<T> cursor) {}
+}
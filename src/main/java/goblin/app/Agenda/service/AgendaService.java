@@ -0,0 +1,167 @@
+package goblin.app.Agenda.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goblin.app.Agenda.model.dto.AgendaItemDTO;
+import goblin.app.Calendar.model.entity.UserCalRepository;
+import goblin.app.Calendar.model.entity.UserCalendar;
+import goblin.app.FixedSchedule.model.entity.FixedSchedule;
+import goblin.app.FixedSchedule.service.FixedScheduleService;
+import goblin.app.FixedSchedule.service.WeeklyRecurrence;
+import goblin.app.Group.model.entity.Group;
+import goblin.app.Group.model.entity.GroupConfirmedCalendar;
+import goblin.app.Group.repository.GroupConfirmedCalendarRepository;
+import goblin.app.Group.repository.GroupRepository;
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+/*
+ * 개인 일정, 속한 그룹들의 확정 일정, 고정 일정 발생을 시간 순으로 합친 통합 일정 조회
+ * - 개인 일정/그룹 일정은 각각 (user_id|group_id, start_time) 인덱스 범위 검색 한 번으로 시작 시각 순 커서가 됨
+ * - 고정 일정은 일정마다 WeeklyRecurrence 반복자가 시작 시각 순 커서가 됨
+ * - 커서들을 AgendaMerger 로 k-way 병합하여 전체 재정렬 없이 순서를 맞춤
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AgendaService {
+
+  // 한 번에 조회할 수 있는 최대 기간
+  static final long MAX_RANGE_DAYS = 366;
+
+  static final Comparator<AgendaItemDTO> ORDER =
+      Comparator.comparing(AgendaItemDTO::getStartTime)
+          .thenComparing(
+              AgendaItemDTO::getEndTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
+  private final UserRepository userRepository;
+  private final UserCalRepository userCalRepository;
+  private final GroupRepository groupRepository;
+  private final GroupConfirmedCalendarRepository groupConfirmedCalendarRepository;
+  private final FixedScheduleService fixedScheduleService;
+
+  // [from, to) 날짜 범위와 겹치는 모든 일정 (시작 시각, 종료 시각 순)
+  @Transactional(readOnly = true)
+  public List<AgendaItemDTO> getAgenda(String loginId, LocalDate from, LocalDate to) {
+    User user =
+        userRepository
+            .findByLoginId(loginId)
+            .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다: loginId=" + loginId));
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("조회 시작일은 종료일보다 이전이어야 합니다.");
+    }
+    if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+    }
+
+    LocalDateTime rangeStart = from.atStartOfDay();
+    LocalDateTime rangeEnd = to.atStartOfDay();
+    List<Iterator<AgendaItemDTO>> cursors = new ArrayList<>();
+
+    // 1. 개인 일정 (삭제된 일정 제외)
+    cursors.add(
+        userCalRepository.findOverlapping(user, rangeStart, rangeEnd).stream()
+            .filter(calendar -> !Boolean.TRUE.equals(calendar.getDeleted()))
+            .map(AgendaService::toItem)
+            .iterator());
+
+    // 2. 속한 그룹들의 확정 일정 (그룹 수와 관계없이 쿼리 한 번)
+    Map<Long, String> groupNames =
+        groupRepository.findAllByUserAsMember(user).stream()
+            .collect(Collectors.toMap(Group::getGroupId, Group::getGroupName, (a, b) -> a));
+    if (!groupNames.isEmpty()) {
+      cursors.add(
+          groupConfirmedCalendarRepository
+              .findOverlappingByGroupIds(groupNames.keySet(), rangeStart, rangeEnd)
+              .stream()
+              .map(confirmed -> toItem(confirmed, groupNames.get(confirmed.getGroupId())))
+              .iterator());
+    }
+
+    // 3. 고정 일정 발생 (그룹별 복사본은 하나만)
+    for (FixedSchedule schedule : fixedScheduleService.getDistinctSchedules(user)) {
+      cursors.add(new OccurrenceCursor(schedule, rangeStart, rangeEnd));
+    }
+
+    List<AgendaItemDTO> agenda = AgendaMerger.merge(cursors, ORDER);
+    log.info(
+        "통합 일정 조회 완료: loginId = {}, 기간 = [{}, {}), 커서 수 = {}, 항목 수 = {}",
+        loginId,
+        from,
+        to,
+        cursors.size(),
+        agenda.size());
+    return agenda;
+  }
+
+  private static AgendaItemDTO toItem(UserCalendar calendar) {
+    return AgendaItemDTO.builder()
+        .type(AgendaItemDTO.Type.PERSONAL)
+        .id(calendar.getId())
+        .title(calendar.getTitle())
+        .color(calendar.getColor())
+        .startTime(calendar.getStartTime())
+        .endTime(calendar.getEndTime())
+        .build();
+  }
+
+  private static AgendaItemDTO toItem(GroupConfirmedCalendar confirmed, String groupName) {
+    return AgendaItemDTO.builder()
+        .type(AgendaItemDTO.Type.GROUP)
+        .id(confirmed.getCalendarId())
+        .groupId(confirmed.getGroupId())
+        .groupName(groupName)
+        .title(confirmed.getTitle())
+        .startTime(confirmed.getConfirmedStartTime())
+        .endTime(confirmed.getConfirmedEndTime())
+        .build();
+  }
+
+  // 고정 일정 하나의 발생을 필요할 때마다 하나씩 만드는 커서
+  private static final class OccurrenceCursor implements Iterator<AgendaItemDTO> {
+
+    private final FixedSchedule schedule;
+    private final WeeklyRecurrence.OccurrenceIterator occurrences;
+
+    private OccurrenceCursor(FixedSchedule schedule, LocalDateTime from, LocalDateTime to) {
+      this.schedule = schedule;
+      this.occurrences = WeeklyRecurrence.of(schedule).overlapping(from, to);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return occurrences.hasNext();
+    }
+
+    @Override
+    public AgendaItemDTO next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long start = occurrences.nextLong();
+      return AgendaItemDTO.builder()
+          .type(AgendaItemDTO.Type.FIXED)
+          .id(schedule.getId())
+          .title(schedule.getScheduleName())
+          .color(schedule.getColor())
+          .startTime(WeeklyRecurrence.toLocalDateTime(start))
+          .endTime(WeeklyRecurrence.toLocalDateTime(start + occurrences.durationMinutes()))
+          .build();
+    }
+  }
+}
@@ -15,10 +15,8 @@ import org.springframework.web.bind.annotation.*;
 import goblin.app.Calendar.model.dto.request.uCalRequestDto;
 import goblin.app.Calendar.model.dto.response.uCalResponseDto;
 import goblin.app.Calendar.service.UserCalService;
+import goblin.app.Common.auth.LoginUser;
 import goblin.app.User.model.entity.User;
-import goblin.app.User.repository.UserRepository;
-import goblin.app.User.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -30,17 +28,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class UserCalController {
 
   @Autowired private final UserCalService userCalService;
-  @Autowired private final JwtUtil jwtUtil;
-  @Autowired private final UserRepository userRepository;
 
   // 생성
   @PostMapping("/save")
   @Operation(summary = "일정 등록", description = "사용자의 새로운 일정을 캘린더에 저장")
   public ResponseEntity<List<uCalResponseDto>> save(
-      @RequestBody @Valid uCalRequestDto requestDto,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @RequestBody @Valid uCalRequestDto requestDto, @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       List<uCalResponseDto> responseDtoList = userCalService.save(requestDto, user);
       return ResponseEntity.status(HttpStatus.CREATED).body(responseDtoList);
     } catch (RuntimeException e) {
@@ -55,9 +49,8 @@ public class UserCalController {
   public ResponseEntity<List<uCalResponseDto>> edit(
       @PathVariable Long scheduleId,
       @RequestBody @Valid uCalRequestDto requestDto,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       List<uCalResponseDto> responseDtoList = userCalService.edit(scheduleId, requestDto, user);
       return ResponseEntity.status(HttpStatus.OK).body(responseDtoList);
     } catch (RuntimeException e) {
@@ -70,10 +63,8 @@ public class UserCalController {
   @DeleteMapping("/delete/{scheduleId}")
   @Operation(summary = "일정 삭제", description = "사용자의 일정을 캘린더에서 삭제")
   public ResponseEntity<uCalResponseDto> delete(
-      @PathVariable Long scheduleId,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @PathVariable Long scheduleId, @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       uCalResponseDto responseDto = userCalService.deleteById(scheduleId, user);
       return ResponseEntity.status(HttpStatus.OK).body(responseDto);
     } catch (RuntimeException e) {
@@ -87,11 +78,8 @@ public class UserCalController {
   @Operation(summary = "월별 캘린더 조회", description = "사용자가 입력한 특정 년도와 월의 일정을 조회")
   @GetMapping("/view-month")
   public ResponseEntity<List<uCalResponseDto>> viewByMonth(
-      @RequestParam int year,
-      @RequestParam int month,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @RequestParam int year, @RequestParam int month, @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       List<uCalResponseDto> calList = userCalService.viewByMonth(year, month, user);
       return ResponseEntity.status(HttpStatus.OK).body(calList);
     } catch (RuntimeException e) {
@@ -107,9 +95,8 @@ public class UserCalController {
       @RequestParam int year,
       @RequestParam int month,
       @RequestParam int day,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       List<uCalResponseDto> calList = userCalService.viewByDay(year, month, day, user);
       return ResponseEntity.status(HttpStatus.OK).body(calList);
     } catch (RuntimeException e) {
@@ -122,10 +109,8 @@ public class UserCalController {
   @Operation(summary = "개인 스케줄 검색 (고정X)", description = "키워드를 통해 사용자의 개인 스케줄을 검색")
   @GetMapping("/search")
   public ResponseEntity<List<uCalResponseDto>> searchSchedules(
-      @RequestParam String keyword,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @RequestParam String keyword, @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       List<uCalResponseDto> response = userCalService.searchSchedules(keyword, user);
       return ResponseEntity.ok(response);
     } catch (RuntimeException e) {
@@ -133,17 +118,4 @@ public class UserCalController {
       return ResponseEntity.badRequest().body(null);
     }
   }
-
-  // JWT 토큰에서 User 객체 추출하는 메서드 (변경 없음)
-  private User getUserFromToken(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      String loginId = claims.getId();
-      return userRepository
-          .findByLoginId(loginId)
-          .orElseThrow(() -> new RuntimeException("User not found"));
-    }
-    throw new RuntimeException("Authorization token is missing or invalid");
-  }
 }
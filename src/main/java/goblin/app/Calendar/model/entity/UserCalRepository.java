@@ -1,5 +1,8 @@
 package goblin.app.Calendar.model.entity;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,23 +12,36 @@ import org.springframework.data.repository.query.Param;
 import goblin.app.User.model.entity.User;
 
 public interface UserCalRepository extends JpaRepository<UserCalendar, Long> {
+  // 일정 하나가 걸칠 수 있는 최대 길이 (일정은 날짜 단위로 생성되므로 자정을 넘기는 정도가 최대)
+  // 시작 시각 하한을 두어 (user_id, start_time) 인덱스 범위 검색이 되도록 함
+  Duration MAX_EVENT_SPAN = Duration.ofDays(7);
+
+  // [from, to) 와 겹치는 일정 (시작 시각, 종료 시각, id 순)
+  // 종료 시각이 시작 시각보다 앞선 기존 데이터도 시작 시각이 범위 안이면 포함
+  // 통합 일정(AgendaService.ORDER)과 같은 순서여야 병합 결과가 정렬됨 (종료 시각이 없으면 뒤로)
   @Query(
-      "SELECT u FROM UserCalendar u WHERE FUNCTION('YEAR', u.startTime) = :year "
-          + "AND FUNCTION('MONTH', u.startTime) = :month "
-          + "AND u.user = :user")
-  List<UserCalendar> findByYearAndMonth(
-      @Param("year") int year, @Param("month") int month, @Param("user") User user);
+      "SELECT u FROM UserCalendar u WHERE u.user = :user "
+          + "AND u.startTime >= :lookback AND u.startTime < :to "
+          + "AND (u.startTime >= :from OR u.endTime > :from) "
+          + "ORDER BY u.startTime, u.endTime NULLS LAST, u.id")
+  List<UserCalendar> findOverlapping(
+      @Param("user") User user,
+      @Param("lookback") LocalDateTime lookback,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  default List<UserCalendar> findOverlapping(User user, LocalDateTime from, LocalDateTime to) {
+    return findOverlapping(user, from.minus(MAX_EVENT_SPAN), from, to);
+  }
 
+  // 여러 사용자의 [from, to) 와 겹치는 개인 일정
   @Query(
-      "SELECT u FROM UserCalendar u WHERE FUNCTION('YEAR', u.startTime) = :year "
-          + "AND FUNCTION('MONTH', u.startTime) = :month "
-          + "AND FUNCTION('DAY', u.startTime) = :day "
-          + "AND u.user = :user")
-  List<UserCalendar> findByDay(
-      @Param("year") int year,
-      @Param("month") int month,
-      @Param("day") int day,
-      @Param("user") User user);
+      "SELECT u FROM UserCalendar u JOIN FETCH u.user WHERE u.user IN :users "
+          + "AND u.startTime < :to AND u.endTime > :from")
+  List<UserCalendar> findOverlappingByUsers(
+      @Param("users") Collection<User> users,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
 
   List<UserCalendar> findByTitleContainingAndUser(String title, User user);
   // 제목에 키워드를 포함하고, 해당 유저의 일정 중에서 삭제되지 않은 것만 검색
@@ -12,17 +12,27 @@ import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import goblin.app.Common.config.BooleanToYNConverter;
+import goblin.app.Common.config.IdSequence;
 import goblin.app.User.model.entity.User;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "user_calendar")
+@Table(
+    name = "user_calendar",
+    indexes = @Index(name = "idx_user_calendar_user_start", columnList = "user_id, start_time"))
 public class UserCalendar {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_calendar_id")
+  @TableGenerator(
+      name = "user_calendar_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "user_calendar",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package goblin.app.Calendar.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -54,8 +55,9 @@ public class UserCalService {
               .color("CCD7E5") // 색상 고정
               .build();
 
-      calendars.add(userCalRepository.save(userCalendar));
+      calendars.add(userCalendar);
     }
+    userCalRepository.saveAll(calendars); // 날짜 수만큼의 insert 를 한 번의 배치로 저장
 
     return calendars.stream().map(uCalResponseDto::new).collect(Collectors.toList());
   }
@@ -106,8 +108,9 @@ public class UserCalService {
   @Transactional
   public List<uCalResponseDto> viewByMonth(int year, int month, User user) {
     int[] yearMonth = validateYearAndMonth(year, month);
+    LocalDateTime from = LocalDate.of(yearMonth[0], yearMonth[1], 1).atStartOfDay();
     List<UserCalendar> scheduleList =
-        userCalRepository.findByYearAndMonth(yearMonth[0], yearMonth[1], user);
+        userCalRepository.findOverlapping(user, from, from.plusMonths(1));
 
     return scheduleList.stream().map(uCalResponseDto::new).collect(Collectors.toList());
   }
@@ -116,8 +119,12 @@ public class UserCalService {
   @Transactional
   public List<uCalResponseDto> viewByDay(int year, int month, int day, User user) {
     int[] yearMonth = validateYearAndMonth(year, month);
+    if (day < 1 || day > YearMonth.of(yearMonth[0], yearMonth[1]).lengthOfMonth()) {
+      return new ArrayList<>(); // 존재하지 않는 날짜
+    }
+    LocalDateTime from = LocalDate.of(yearMonth[0], yearMonth[1], day).atStartOfDay();
     List<UserCalendar> scheduleList =
-        userCalRepository.findByDay(yearMonth[0], yearMonth[1], day, user);
+        userCalRepository.findOverlapping(user, from, from.plusDays(1));
 
     return scheduleList.stream().map(uCalResponseDto::new).collect(Collectors.toList());
   }
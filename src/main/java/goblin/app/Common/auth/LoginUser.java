@@ -0,0 +1,17 @@
+package goblin.app.Common.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * 컨트롤러 파라미터에 현재 로그인한 사용자를 주입
+ * - AuthenticatedUser: JwtRequestFilter 가 검증한 클레임 그대로 (DB 조회 없음)
+ * - String: loginId (DB 조회 없음)
+ * - User: 요청당 한 번만 DB 조회
+ * 인증 정보가 없으면 401
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {}
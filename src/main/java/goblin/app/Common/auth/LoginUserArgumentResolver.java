@@ -0,0 +1,71 @@
+package goblin.app.Common.auth;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import goblin.app.User.model.dto.AuthenticatedUser;
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+// @LoginUser 파라미터를 SecurityContext 의 AuthenticatedUser 로부터 채움 (토큰을 다시 파싱하지 않음)
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+  // 같은 요청에서 User 엔티티를 다시 조회하지 않도록 보관하는 요청 속성 이름
+  private static final String USER_ATTRIBUTE = LoginUserArgumentResolver.class.getName() + ".USER";
+
+  private final UserRepository userRepository;
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    Class<?> type = parameter.getParameterType();
+    return parameter.hasParameterAnnotation(LoginUser.class)
+        && (type == AuthenticatedUser.class || type == String.class || type == User.class);
+  }
+
+  @Override
+  public Object resolveArgument(
+      MethodParameter parameter,
+      ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest,
+      WebDataBinderFactory binderFactory) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+      throw new ResponseStatusException(
+          HttpStatus.UNAUTHORIZED, "Authorization token is missing or invalid");
+    }
+
+    Class<?> type = parameter.getParameterType();
+    if (type == AuthenticatedUser.class) {
+      return principal;
+    }
+    if (type == String.class) {
+      return principal.getLoginId();
+    }
+
+    Object cached = webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (cached instanceof User user) {
+      return user;
+    }
+    User user =
+        userRepository
+            .findById(principal.getId())
+            .orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+    webRequest.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+    return user;
+  }
+}
@@ -0,0 +1,43 @@
+package goblin.app.Common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/*
+ * 비동기 실행기 설정 (알림 저장은 NotificationOutboxRelay 의 자체 스레드에서 처리)
+ * - sseDeliveryExecutor: emitter 별 SSE writer, 큐가 차면 예약을 거절하고 SseEmitterWriter 가 다음 전송 때 재시도
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는
+ *   Tomcat 요청 스레드와 applicationTaskExecutor 를 Spring Boot 가 가상 스레드로 바꿈
+ * - SSE writer 는 notification.delivery.virtual-threads=true 일 때만 가상 스레드 사용
+ *   - ResponseBodyEmitter.send 가 synchronized 라 느린 연결에 쓰는 동안 캐리어 스레드를 붙잡음 (pinning)
+ *   - 기본은 크기가 정해진 플랫폼 스레드 풀에 두어 느린 연결이 캐리어 스레드를 모두 점유하지 못하게 함
+ */
+@Configuration
+public class AsyncConfig {
+
+  @Bean(name = "sseDeliveryExecutor")
+  public TaskExecutor sseDeliveryExecutor(
+      Environment environment,
+      @Value("${notification.delivery.virtual-threads:false}") boolean virtualDelivery,
+      @Value("${notification.delivery.pool-size:4}") int poolSize,
+      @Value("${notification.delivery.queue-capacity:10000}") int queueCapacity) {
+    if (virtualDelivery && Threading.VIRTUAL.isActive(environment)) {
+      // writer 마다 가상 스레드 하나, 동시에 도는 writer 수는 전송할 메시지가 있는 emitter 수
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-delivery-");
+      executor.setVirtualThreads(true);
+      return executor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("sse-delivery-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    return executor;
+  }
+}
@@ -0,0 +1,82 @@
+package goblin.app.Common.config;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 테이블 기반 id 할당기 (@TableGenerator, pooled)
+ * - id_sequences 테이블의 한 행이 엔티티 하나의 다음 id 블록을 가리킴
+ * - 한 번 읽을 때 ALLOCATION_SIZE 개의 id 를 받아 메모리에서 나눠 주므로 insert 를 JDBC 배치로 묶을 수 있음
+ * - 기동 시 각 행을 기존 테이블의 최대 id 이후로 맞춰, IDENTITY 로 쌓인 id 와 겹치지 않게 함
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequence implements InitializingBean {
+
+  public static final String TABLE = "id_sequences";
+  public static final String NAME_COLUMN = "sequence_name";
+  public static final String VALUE_COLUMN = "next_val";
+  public static final int ALLOCATION_SIZE = 50;
+
+  // 할당기를 쓰는 엔티티 (행 이름, 테이블, id 컬럼)
+  private static final List<Segment> SEGMENTS =
+      List.of(
+          new Segment("available_time", "available_time", "id"),
+          new Segment("group_calendar_participant", "group_calendar_participant", "id"),
+          new Segment("notification", "notification", "notification_id"),
+          new Segment("notification_outbox", "notification_outbox", "id"),
+          new Segment("notification_broadcast", "notification_broadcast", "id"),
+          new Segment("fixed_schedules", "fixed_schedules", "id"),
+          new Segment("optimal_time_slot", "optimal_time_slot", "id"),
+          new Segment("user_calendar", "user_calendar", "id"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void afterPropertiesSet() {
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + TABLE
+            + " ("
+            + NAME_COLUMN
+            + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+            + VALUE_COLUMN
+            + " BIGINT)");
+
+    for (Segment segment : SEGMENTS) {
+      // pooled 할당기는 읽은 값 v 에 대해 (v - ALLOCATION_SIZE, v] 를 쓰므로 최대 id + ALLOCATION_SIZE 보다 크게 맞춤
+      jdbcTemplate.update(
+          "INSERT INTO "
+              + TABLE
+              + " ("
+              + NAME_COLUMN
+              + ", "
+              + VALUE_COLUMN
+              + ") SELECT ?, COALESCE(MAX("
+              + segment.idColumn()
+              + "), 0) + ? FROM "
+              + segment.table()
+              + " ON DUPLICATE KEY UPDATE "
+              + VALUE_COLUMN
+              + " = GREATEST("
+              + VALUE_COLUMN
+              + ", VALUES("
+              + VALUE_COLUMN
+              + "))",
+          segment.name(),
+          ALLOCATION_SIZE + 1);
+    }
+    log.info("id 할당 테이블 초기화 완료: {} 개 엔티티", SEGMENTS.size());
+  }
+
+  private record Segment(String name, String table, String idColumn) {}
+}
@@ -0,0 +1,44 @@
+package goblin.app.Common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+ * JDBC 배치 설정
+ * - 같은 테이블 insert/update 를 모아서 batch-size 단위로 전송 (IdSequence 의 테이블 기반 id 필요)
+ * - MySQL 드라이버가 배치를 여러 행 insert 한 문장으로 다시 쓰도록 rewriteBatchedStatements 설정
+ */
+@Configuration
+public class JpaBatchConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+      @Value("${jpa-batch.size:50}") int batchSize) {
+    return properties -> {
+      properties.put("hibernate.jdbc.batch_size", batchSize);
+      properties.put("hibernate.order_inserts", true);
+      properties.put("hibernate.order_updates", true);
+      properties.put("hibernate.jdbc.batch_versioned_data", true);
+    };
+  }
+
+  // 커넥션 풀이 시작되기 전에 드라이버 속성을 추가해야 하므로 static 으로 등록
+  @Bean
+  public static BeanPostProcessor rewriteBatchedStatementsPostProcessor(
+      @Value("${jpa-batch.rewrite-batched-statements:true}") boolean rewrite) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (rewrite && bean instanceof HikariDataSource dataSource) {
+          dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+        return bean;
+      }
+    };
+  }
+}
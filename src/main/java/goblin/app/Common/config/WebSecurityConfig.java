@@ -52,6 +52,8 @@ public class WebSecurityConfig {
                         "/api/groups/**",
                         "/api/calendar/**",
                         "/api/fixed/**",
+                        "/api/agenda/**",
+                        "/api/notifications/**",
                         "/api/groups/{groupId}/todos/**")
                     .permitAll()
                     .requestMatchers("/api/v1/user/*")
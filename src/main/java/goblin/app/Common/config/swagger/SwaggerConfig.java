@@ -1,10 +1,12 @@
 package goblin.app.Common.config.swagger;
 
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import goblin.app.Common.auth.LoginUser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
@@ -14,6 +16,11 @@ import io.swagger.v3.oas.models.servers.Server;
 
 @Configuration
 public class SwaggerConfig {
+  static {
+    // @LoginUser 파라미터는 요청 값이 아니므로 문서에서 제외
+    SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginUser.class);
+  }
+
   @Value("${server.servlet.context-path:}")
   private String contextPath;
 
@@ -1,5 +1,6 @@
 package goblin.app.FixedSchedule.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
@@ -7,18 +8,18 @@ import lombok.extern.slf4j.Slf4j;
 
 import jakarta.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import goblin.app.Common.auth.LoginUser;
 import goblin.app.Common.exception.CustomException;
+import goblin.app.FixedSchedule.model.dto.FixedScheduleOccurrenceDTO;
 import goblin.app.FixedSchedule.model.dto.FixedScheduleRequestDTO;
 import goblin.app.FixedSchedule.model.dto.FixedScheduleResponseDTO;
 import goblin.app.FixedSchedule.service.FixedScheduleService;
 import goblin.app.User.model.entity.User;
-import goblin.app.User.repository.UserRepository;
-import goblin.app.User.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -30,17 +31,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class FixedScheduleController {
 
   private final FixedScheduleService fixedScheduleService;
-  private final JwtUtil jwtUtil;
-  private final UserRepository userRepository;
 
   // 고정 일정 생성
   @PostMapping("/create")
   @Operation(summary = "고정 일정 생성", description = "고정 일정 등록")
   public ResponseEntity<FixedScheduleResponseDTO> createFixedSchedule(
-      @RequestBody @Valid FixedScheduleRequestDTO requestDto,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @RequestBody @Valid FixedScheduleRequestDTO requestDto, @LoginUser User user) {
     try {
-      User user = getUserFromToken(bearerToken);
       FixedScheduleResponseDTO responseDto =
           fixedScheduleService.createFixedSchedule(requestDto, user);
       return ResponseEntity.status(HttpStatus.OK).body(responseDto);
@@ -53,10 +50,8 @@ public class FixedScheduleController {
   // 사용자의 고정 일정 조회
   @Operation(summary = "사용자의 고정 일정 조회", description = "로그인한 사용자의 고정 일정 리스트를 조회")
   @GetMapping("/user")
-  public ResponseEntity<?> getUserFixedSchedules(
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+  public ResponseEntity<?> getUserFixedSchedules(@LoginUser String loginId) {
     try {
-      String loginId = extractLoginId(bearerToken);
       List<FixedScheduleResponseDTO> schedules =
           fixedScheduleService.getUserFixedSchedules(loginId);
       return ResponseEntity.ok(schedules);
@@ -66,15 +61,33 @@ public class FixedScheduleController {
     }
   }
 
+  // 사용자의 고정 일정을 날짜 범위로 펼쳐 조회 (월간 보기용)
+  @Operation(
+      summary = "사용자의 고정 일정 발생 조회",
+      description = "[from, to) 날짜 범위에 해당하는 고정 일정을 실제 날짜/시간으로 펼쳐 조회")
+  @GetMapping("/user/occurrences")
+  public ResponseEntity<?> getUserFixedScheduleOccurrences(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @LoginUser String loginId) {
+    try {
+      List<FixedScheduleOccurrenceDTO> occurrences =
+          fixedScheduleService.getUserOccurrences(loginId, from, to);
+      return ResponseEntity.ok(occurrences);
+    } catch (RuntimeException e) {
+      log.error("고정 일정 발생 조회 실패: {}", e.getMessage());
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   // 고정 일정 시간 및 요일 업데이트
   @Operation(summary = "고정 일정 시간 및 요일 업데이트", description = "기존 고정 일정의 요일, 시작 및 종료 시간을 업데이트")
   @PutMapping("/{scheduleId}/update")
   public ResponseEntity<?> updateFixedSchedule(
       @PathVariable Long scheduleId,
       @RequestBody FixedScheduleRequestDTO updateRequest,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @LoginUser String loginId) {
     try {
-      String loginId = extractLoginId(bearerToken);
       fixedScheduleService.updateFixedSchedule(scheduleId, updateRequest, loginId);
       return ResponseEntity.ok("고정 일정이 업데이트되었습니다.");
     } catch (RuntimeException e) {
@@ -83,24 +96,12 @@ public class FixedScheduleController {
     }
   }
 
-  // JWT 토큰에서 loginId 추출
-  private String extractLoginId(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      return claims.getId(); // 토큰에서 loginId 추출
-    }
-    return null;
-  }
-
   // 고정 일정 삭제
   @Operation(summary = "고정 일정 삭제", description = "기존 고정 일정을 삭제")
   @DeleteMapping("/delete/{scheduleId}")
   public ResponseEntity<?> deleteFixedSchedule(
-      @PathVariable Long scheduleId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @PathVariable Long scheduleId, @LoginUser String loginId) {
     try {
-      String loginId = extractLoginId(bearerToken);
       fixedScheduleService.deleteFixedSchedule(scheduleId, loginId);
       return ResponseEntity.ok("고정 일정이 삭제되었습니다.");
     } catch (RuntimeException e) {
@@ -109,27 +110,10 @@ public class FixedScheduleController {
     }
   }
 
-  // JWT 토큰에서 User 객체 추출하는 메서드
-  private User getUserFromToken(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      String loginId = claims.getId();
-
-      return userRepository
-          .findByLoginId(loginId)
-          .orElseThrow(() -> new RuntimeException("User not found"));
-    }
-    throw new RuntimeException("Authorization token is missing or invalid");
-  }
-
   @GetMapping("/group/{groupId}")
   @Operation(summary = "그룹별 고정 일정 조회", description = "해당 그룹의 고정 일정을 조회")
   public ResponseEntity<List<FixedScheduleResponseDTO>> getSchedulesByGroup(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
+      @PathVariable Long groupId, @LoginUser String loginId) {
     List<FixedScheduleResponseDTO> schedules =
         fixedScheduleService.getSchedulesByGroup(groupId, loginId);
     return ResponseEntity.ok(schedules);
@@ -138,11 +122,7 @@ public class FixedScheduleController {
   @PutMapping("/{scheduleId}/group/{groupId}/toggle-public")
   @Operation(summary = "고정 일정 공개 여부 변경", description = "그룹 내 고정 일정의 공개 여부를 전환")
   public ResponseEntity<String> togglePublicStatus(
-      @PathVariable Long scheduleId,
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
+      @PathVariable Long scheduleId, @PathVariable Long groupId, @LoginUser String loginId) {
     fixedScheduleService.togglePublicStatus(scheduleId, groupId, loginId);
     return ResponseEntity.ok("공개 여부가 전환되었습니다.");
   }
@@ -151,9 +131,8 @@ public class FixedScheduleController {
   @GetMapping("/personal-group/schedules")
   @Operation(summary = "'개인'그룹(개인 캘린더만의) 고정 일정 조회", description = "개인 그룹의 고정 일정을 조회")
   public ResponseEntity<List<FixedScheduleResponseDTO>> getPersonalGroupSchedules(
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser String loginId) {
     try {
-      String loginId = extractLoginId(bearerToken);
       List<FixedScheduleResponseDTO> schedules =
           fixedScheduleService.getPersonalGroupSchedules(loginId);
       return ResponseEntity.ok(schedules);
@@ -0,0 +1,27 @@
+package goblin.app.FixedSchedule.model.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+// 고정 일정을 실제 날짜로 펼친 발생 하나 (월간 보기용)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FixedScheduleOccurrenceDTO {
+  private Long scheduleId;
+  private String scheduleName;
+  private String color;
+
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+  private LocalDateTime startTime;
+
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+  private LocalDateTime endTime;
+}
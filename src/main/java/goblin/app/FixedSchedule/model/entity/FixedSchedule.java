@@ -12,6 +12,7 @@ import lombok.Setter;
 
 import jakarta.persistence.*;
 
+import goblin.app.Common.config.IdSequence;
 import goblin.app.Group.model.entity.Group;
 import goblin.app.User.model.entity.User;
 
@@ -25,7 +26,14 @@ import goblin.app.User.model.entity.User;
 public class FixedSchedule {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "fixed_schedules_id")
+  @TableGenerator(
+      name = "fixed_schedules_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "fixed_schedules",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package goblin.app.FixedSchedule.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,12 @@ public interface FixedScheduleRepository extends JpaRepository<FixedSchedule, Lo
   @Query("SELECT fs FROM FixedSchedule fs JOIN FETCH fs.dayOfWeek WHERE fs.user = :user")
   List<FixedSchedule> findByUser(@Param("user") User user);
 
+  // 여러 사용자의 고정 일정을 요일까지 한 번에 조회
+  @Query(
+      "SELECT DISTINCT fs FROM FixedSchedule fs JOIN FETCH fs.dayOfWeek JOIN FETCH fs.user"
+          + " WHERE fs.user IN :users")
+  List<FixedSchedule> findByUserIn(@Param("users") Collection<User> users);
+
   List<FixedSchedule> findByGroup(Group group);
 
   // 그룹과 일정 ID로 조회
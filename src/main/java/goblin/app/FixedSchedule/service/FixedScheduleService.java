@@ -1,8 +1,14 @@
 package goblin.app.FixedSchedule.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -10,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import goblin.app.FixedSchedule.model.dto.FixedScheduleOccurrenceDTO;
 import goblin.app.FixedSchedule.model.dto.FixedScheduleRequestDTO;
 import goblin.app.FixedSchedule.model.dto.FixedScheduleResponseDTO;
 import goblin.app.FixedSchedule.model.entity.FixedSchedule;
@@ -65,8 +72,8 @@ public class FixedScheduleService {
               .build();
 
       schedules.add(fixedSchedule);
-      fixedScheduleRepository.save(fixedSchedule);
     }
+    fixedScheduleRepository.saveAll(schedules); // 그룹 수만큼의 insert 를 한 번의 배치로 저장
 
     return new FixedScheduleResponseDTO(schedules.get(0)); // 첫번째 일정 정보 반환 (예시)
   }
@@ -109,6 +116,62 @@ public class FixedScheduleService {
     return schedules.stream().map(FixedScheduleResponseDTO::new).collect(Collectors.toList());
   }
 
+  // [from, to) 날짜 범위의 고정 일정 발생 조회 (그룹마다 복사된 같은 일정은 한 번만)
+  @Transactional(readOnly = true)
+  public List<FixedScheduleOccurrenceDTO> getUserOccurrences(
+      String loginId, LocalDate from, LocalDate to) {
+    User user =
+        userRepository
+            .findByLoginId(loginId)
+            .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다: loginId=" + loginId));
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("조회 시작일은 종료일보다 이전이어야 합니다.");
+    }
+
+    LocalDateTime rangeStart = from.atStartOfDay();
+    LocalDateTime rangeEnd = to.atStartOfDay();
+    List<FixedScheduleOccurrenceDTO> occurrences = new ArrayList<>();
+    for (FixedSchedule schedule : getDistinctSchedules(user)) {
+      WeeklyRecurrence recurrence = WeeklyRecurrence.of(schedule);
+      WeeklyRecurrence.OccurrenceIterator iterator =
+          recurrence.overlapping(rangeStart, rangeEnd);
+      while (iterator.hasNext()) {
+        long start = iterator.nextLong();
+        occurrences.add(
+            FixedScheduleOccurrenceDTO.builder()
+                .scheduleId(schedule.getId())
+                .scheduleName(schedule.getScheduleName())
+                .color(schedule.getColor())
+                .startTime(WeeklyRecurrence.toLocalDateTime(start))
+                .endTime(WeeklyRecurrence.toLocalDateTime(start + recurrence.durationMinutes()))
+                .build());
+      }
+    }
+    occurrences.sort(Comparator.comparing(FixedScheduleOccurrenceDTO::getStartTime));
+    return occurrences;
+  }
+
+  // 그룹마다 복사된 같은 고정 일정(이름/시간/요일이 같은 것)은 하나만 남긴 사용자의 고정 일정
+  @Transactional(readOnly = true)
+  public List<FixedSchedule> getDistinctSchedules(User user) {
+    Set<String> seen = new HashSet<>();
+    List<FixedSchedule> distinct = new ArrayList<>();
+    for (FixedSchedule schedule : fixedScheduleRepository.findByUser(user)) {
+      String key =
+          schedule.getScheduleName()
+              + "|"
+              + schedule.getStartTime()
+              + "|"
+              + schedule.getEndTime()
+              + "|"
+              + new TreeSet<>(schedule.getDayOfWeek());
+      if (seen.add(key)) {
+        distinct.add(schedule);
+      }
+    }
+    return distinct;
+  }
+
   // 수정
   @Transactional
   public void updateFixedSchedule(
@@ -0,0 +1,149 @@
+package goblin.app.FixedSchedule.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import goblin.app.FixedSchedule.model.entity.FixedSchedule;
+
+/*
+ * 요일 반복 고정 일정의 실제 발생(occurrence) 계산
+ * - 요일은 7비트 마스크(월=bit0 ... 일=bit6), 시간은 하루 중 분(minute of day)으로 보관
+ * - 발생 시각은 "epochDay * 1440 + 시작 분" 인 epoch-minute(long) 하나로 표현
+ * - 리스트를 만들지 않고 PrimitiveIterator.OfLong 으로 범위 안의 발생을 하나씩 계산
+ * - 종료 시각이 시작 시각보다 이르거나 같으면 다음 날 종료(자정을 넘기는 일정)
+ * - 발생 시각은 벽시계(LocalDateTime) 기준이며, 시간대 변환이 필요하면 toZoned 사용
+ */
+public final class WeeklyRecurrence {
+
+  public static final int MINUTES_PER_DAY = 24 * 60;
+
+  private final int dayMask;
+  private final int startMinute;
+  private final int durationMinutes;
+
+  private WeeklyRecurrence(int dayMask, int startMinute, int durationMinutes) {
+    this.dayMask = dayMask;
+    this.startMinute = startMinute;
+    this.durationMinutes = durationMinutes;
+  }
+
+  public static WeeklyRecurrence of(FixedSchedule schedule) {
+    return of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+  }
+
+  public static WeeklyRecurrence of(
+      Collection<DayOfWeek> days, LocalTime startTime, LocalTime endTime) {
+    int mask = 0;
+    if (days != null) {
+      for (DayOfWeek day : days) {
+        mask |= 1 << (day.getValue() - 1);
+      }
+    }
+    int start = startTime.toSecondOfDay() / 60;
+    int end = endTime.toSecondOfDay() / 60;
+    int duration = end > start ? end - start : end - start + MINUTES_PER_DAY;
+    return new WeeklyRecurrence(mask, start, duration);
+  }
+
+  public int durationMinutes() {
+    return durationMinutes;
+  }
+
+  // [fromDay, toDay) 날짜에 시작하는 발생들의 시작 epoch-minute
+  public OccurrenceIterator startingBetween(LocalDate fromDay, LocalDate toDay) {
+    return new OccurrenceIterator(fromDay.toEpochDay(), toDay.toEpochDay());
+  }
+
+  // [from, to) 와 겹치는 발생들의 시작 epoch-minute (전날 시작해 자정을 넘긴 발생 포함)
+  public OccurrenceIterator overlapping(LocalDateTime from, LocalDateTime to) {
+    long fromMinute = toEpochMinute(from);
+    long toMinute = toEpochMinute(to);
+    // 시작 시각 s 가 (from - duration, to) 안이면 겹침
+    long firstDay = Math.floorDiv(fromMinute - durationMinutes - startMinute, MINUTES_PER_DAY) + 1;
+    long lastDay = Math.floorDiv(toMinute - 1 - startMinute, MINUTES_PER_DAY);
+    return new OccurrenceIterator(firstDay, lastDay + 1);
+  }
+
+  public LongStream stream(LocalDateTime from, LocalDateTime to) {
+    return StreamSupport.longStream(
+        Spliterators.spliteratorUnknownSize(
+            overlapping(from, to),
+            Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL),
+        false);
+  }
+
+  // epochDay 의 요일 인덱스 (월=0 ... 일=6), 1970-01-01 은 목요일
+  static int dayIndex(long epochDay) {
+    return (int) Math.floorMod(epochDay + 3, 7L);
+  }
+
+  public static long toEpochMinute(LocalDateTime time) {
+    return time.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+        + time.toLocalTime().toSecondOfDay() / 60;
+  }
+
+  public static LocalDateTime toLocalDateTime(long epochMinute) {
+    long day = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    int minute = (int) Math.floorMod(epochMinute, (long) MINUTES_PER_DAY);
+    return LocalDate.ofEpochDay(day).atTime(minute / 60, minute % 60);
+  }
+
+  // 벽시계 기준 발생 시각을 시간대에 맞춰 변환 (서머타임 공백 구간은 뒤로 밀리고, 중복 구간은 이른 오프셋 사용)
+  public static ZonedDateTime toZoned(long epochMinute, ZoneId zone) {
+    return ZonedDateTime.of(toLocalDateTime(epochMinute), zone);
+  }
+
+  /*
+   * 발생 시작 시각(epoch-minute)을 순서대로 돌려주는 반복자
+   * - 다음 발생 요일은 요일 마스크를 회전시켜 비트 연산으로 바로 찾음 (날짜를 하나씩 훑지 않음)
+   */
+  public final class OccurrenceIterator implements PrimitiveIterator.OfLong {
+
+    private final long endDay; // exclusive
+    private long day;
+
+    private OccurrenceIterator(long fromDay, long endDay) {
+      this.endDay = endDay;
+      this.day = nextDay(fromDay);
+    }
+
+    private long nextDay(long from) {
+      if (dayMask == 0) {
+        return Long.MAX_VALUE;
+      }
+      int index = dayIndex(from);
+      int rotated = ((dayMask >>> index) | (dayMask << (7 - index))) & 0x7f;
+      return from + Integer.numberOfTrailingZeros(rotated);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return day < endDay;
+    }
+
+    @Override
+    public long nextLong() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long start = day * MINUTES_PER_DAY + startMinute;
+      day = nextDay(day + 1);
+      return start;
+    }
+
+    public int durationMinutes() {
+      return durationMinutes;
+    }
+  }
+}
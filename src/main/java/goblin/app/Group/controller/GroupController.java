@@ -15,15 +15,13 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import goblin.app.Common.auth.LoginUser;
 import goblin.app.Group.model.dto.*;
+import goblin.app.Group.service.FreeBusyService;
 import goblin.app.Group.service.GroupService;
 import goblin.app.Group.service.InviteTokenService;
-import goblin.app.Notification.model.entity.EmitterRepository;
 import goblin.app.Notification.service.NotificationService;
-import goblin.app.User.model.entity.User;
-import goblin.app.User.repository.UserRepository;
-import goblin.app.User.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import goblin.app.User.model.dto.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -35,23 +33,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class GroupController {
 
   private final GroupService groupService;
-  private final JwtUtil jwtUtil;
+  private final FreeBusyService freeBusyService;
   private final InviteTokenService inviteTokenService;
 
   private final NotificationService notificationService;
 
-  private final UserRepository userRepository;
-
-  private final EmitterRepository emitterRepository;
-
   // 그룹 생성
   @Operation(summary = "그룹 생성", description = "새로운 그룹을 생성하고 그룹장을 자동으로 설정")
   @PostMapping
   public ResponseEntity<?> createGroup(
-      @RequestBody GroupRequestDTO request,
-      @RequestHeader(value = "Authorization", required = false) String bearerToken) {
+      @RequestBody GroupRequestDTO request, @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.createGroup(request.getGroupName(), loginId);
       return ResponseEntity.ok("그룹 생성이 완료되었습니다.");
     } catch (RuntimeException e) {
@@ -66,9 +59,9 @@ public class GroupController {
   public ResponseEntity<?> inviteMember(
       @PathVariable Long groupId,
       @RequestBody GroupMemberRequestDTO request,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.validateGroupOwner(groupId, loginId);
       groupService.inviteMember(groupId, request.getLoginId());
       return ResponseEntity.ok("멤버 초대가 완료되었습니다.");
@@ -84,9 +77,9 @@ public class GroupController {
   public ResponseEntity<?> createGroupEvent(
       @PathVariable Long groupId,
       @RequestBody GroupCalendarRequestDTO request,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.createGroupEvent(groupId, request, loginId);
       return ResponseEntity.ok("그룹 일정 등록이 완료되었습니다.");
     } catch (RuntimeException e) {
@@ -101,9 +94,9 @@ public class GroupController {
   public ResponseEntity<?> deleteCalendarEvent(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.deleteCalendarEvent(calendarId, loginId);
       return ResponseEntity.ok("일정이 삭제되었습니다.");
     } catch (RuntimeException e) {
@@ -118,9 +111,9 @@ public class GroupController {
   public ResponseEntity<?> updateGroupEvent(
       @PathVariable Long calendarId,
       @RequestBody GroupCalendarRequestDTO request,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.updateGroupEvent(calendarId, request, loginId);
       return ResponseEntity.ok("일정 수정이 완료되었습니다.");
     } catch (RuntimeException e) {
@@ -136,9 +129,8 @@ public class GroupController {
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
       @RequestBody String memo,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
       groupService.addMemo(calendarId, memo);
       return ResponseEntity.ok("메모가 추가되었습니다.");
     } catch (RuntimeException e) {
@@ -153,12 +145,9 @@ public class GroupController {
   public ResponseEntity<?> getConfirmedCalendar(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -171,13 +160,9 @@ public class GroupController {
   @Operation(summary = "그룹별 확정된 일정 전체 조회", description = "그룹에 속한 모든 확정된 일정을 조회")
   @GetMapping("/{groupId}/calendars/confirmed")
   public ResponseEntity<?> getConfirmedCalendarsByGroup(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -193,12 +178,9 @@ public class GroupController {
       @PathVariable Long groupId,
       @RequestParam int year,
       @RequestParam int month,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -215,12 +197,9 @@ public class GroupController {
       @RequestParam int year,
       @RequestParam int month,
       @RequestParam int day,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -239,11 +218,11 @@ public class GroupController {
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
       @RequestBody ConfirmTimeRangeRequest request, // 요청으로 범위 내 시간 입력 받음
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
 
-    String loginId = extractLoginId(bearerToken);
+    String loginId = loginUser.getLoginId();
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -260,10 +239,9 @@ public class GroupController {
   // 그룹 조회
   @Operation(summary = "그룹 조회", description = "로그인한 사용자의 그룹 목록을 조회")
   @GetMapping
-  public ResponseEntity<?> getUserGroups(
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+  public ResponseEntity<?> getUserGroups(@LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       List<GroupResponseDto> groups = groupService.getUserGroups(loginId);
       return ResponseEntity.ok(groups);
     } catch (RuntimeException e) {
@@ -279,14 +257,10 @@ public class GroupController {
           "팀원들한테 '며칠 몇시부터 며칠 몇시까지의 시간 중 가능한 시간 선택하셈' 을 보낼 때에서 '며칠 몇시부터 며칠 몇시'까지의 일정조회를 담당하는 api")
   @GetMapping("/{groupId}/calendar")
   public ResponseEntity<?> getGroupCalendar(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
     try {
-      // 토큰에서 loginId 추출
-      String loginId = extractLoginId(bearerToken);
-
       // 사용자가 그룹에 속해 있는지 확인
-      if (!groupService.isUserInGroup(groupId, loginId)) {
+      if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
       }
 
@@ -305,13 +279,10 @@ public class GroupController {
   public ResponseEntity<?> getGroupCalendarById(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      // 토큰에서 loginId 추출
-      String loginId = extractLoginId(bearerToken);
-
       // 사용자가 그룹에 속해 있는지 확인
-      if (!groupService.isUserInGroup(groupId, loginId)) {
+      if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
       }
 
@@ -324,24 +295,15 @@ public class GroupController {
     }
   }
 
-  private String extractLoginId(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      return claims.getId(); // 토큰에서 loginId 추출
-    }
-    return null;
-  }
-
   // 그룹명 수정
   @Operation(summary = "그룹명 수정", description = "그룹명 수정 (방장만 가능)")
   @PutMapping("/{groupId}")
   public ResponseEntity<?> updateGroupName(
       @PathVariable Long groupId,
       @RequestBody GroupRequestDTO request,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.updateGroupName(groupId, request.getGroupName(), loginId);
       return ResponseEntity.ok("그룹명이 수정되었습니다.");
     } catch (RuntimeException e) {
@@ -354,8 +316,8 @@ public class GroupController {
   @Operation(summary = "그룹 삭제", description = "그룹삭제")
   @DeleteMapping("/group/{groupId}")
   public ResponseEntity<String> deleteGroup(
-      @PathVariable Long groupId, @RequestHeader("Authorization") String token) {
-    String loginId = extractLoginId(token); // JWT 토큰에서 로그인 ID 추출
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
+    String loginId = loginUser.getLoginId();
     groupService.deleteGroup(groupId, loginId);
     return ResponseEntity.ok("그룹이 삭제되었습니다.");
   }
@@ -366,9 +328,9 @@ public class GroupController {
   public ResponseEntity<?> removeMember(
       @PathVariable Long groupId,
       @PathVariable String memberId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
     try {
-      String loginId = extractLoginId(bearerToken);
+      String loginId = loginUser.getLoginId();
       groupService.removeMember(groupId, memberId, loginId);
       return ResponseEntity.ok("그룹 멤버가 삭제되었습니다.");
     } catch (RuntimeException e) {
@@ -383,16 +345,21 @@ public class GroupController {
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
       @RequestBody AvailableTimeRequestDTO request,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @LoginUser AuthenticatedUser loginUser) {
 
-    String loginId = extractLoginId(bearerToken);
+    String loginId = loginUser.getLoginId();
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
-    groupService.setAvailableTime(calendarId, request, loginId);
+    try {
+      groupService.setAvailableTime(calendarId, request, loginId);
+    } catch (IllegalArgumentException e) {
+      // 끝이 시작보다 앞서는 슬롯 등 잘못된 제출
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
 
     return ResponseEntity.ok("가능한 시간이 제출되었습니다.");
   }
@@ -402,22 +369,27 @@ public class GroupController {
   public ResponseEntity<?> calculateOptimalTime(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    // 토큰에서 loginId 추출
-    String loginId = extractLoginId(bearerToken);
+      @RequestParam(required = false) Integer granularity,
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 사용자가 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
     try {
-      // 최적 시간 계산 및 저장 로직 수행, TimeSlot 리스트 반환
-      List<TimeSlot> timeSlots = groupService.calculateOptimalTimesAndSave(calendarId);
+      // granularity 가 주어지면 격자 기반으로 계산 (저장하지 않음)
+      if (granularity != null) {
+        return ResponseEntity.ok(groupService.calculateOptimalTimesOnGrid(calendarId, granularity));
+      }
+
+      // 유지 중인 최적 시간 조회, TimeSlot 리스트 반환
+      List<TimeSlot> timeSlots = groupService.getOptimalTimes(calendarId);
 
       // 변환된 TimeSlot 리스트를 성공적으로 반환
       return ResponseEntity.ok(timeSlots);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
     } catch (RuntimeException e) {
       // 에러 처리
       log.error("최적 시간 계산 중 오류 발생: {}", e.getMessage());
@@ -428,13 +400,9 @@ public class GroupController {
   @Operation(summary = "그룹 멤버 리스트 조회", description = "해당 그룹의 멤버 리스트를 반환합니다.")
   @GetMapping("/{groupId}/members")
   public ResponseEntity<?> getGroupMembers(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
     // 사용자가 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -446,10 +414,9 @@ public class GroupController {
   @Operation(summary = "초대 링크 생성", description = "그룹에 초대하는 초대 링크를 생성")
   @PostMapping("/{groupId}/invite-link")
   public ResponseEntity<?> generateInviteLink(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
 
-    String loginId = extractLoginId(bearerToken);
+    String loginId = loginUser.getLoginId();
 
     // 그룹장인지 확인
     groupService.validateGroupOwner(groupId, loginId);
@@ -465,10 +432,9 @@ public class GroupController {
   @Operation(summary = "초대 링크 처리", description = "초대 링크를 통해 그룹에 가입")
   @PostMapping("/join-by-invite")
   public ResponseEntity<?> joinGroupByInvite(
-      @RequestParam String inviteLink,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
+      @RequestParam String inviteLink, @LoginUser AuthenticatedUser loginUser) {
 
-    String loginId = extractLoginId(bearerToken);
+    String loginId = loginUser.getLoginId();
 
     // 링크에서 토큰 추출
     String token = extractTokenFromLink(inviteLink);
@@ -497,12 +463,9 @@ public class GroupController {
   public ResponseEntity<?> getParticipantsAvailability(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -513,48 +476,93 @@ public class GroupController {
     return ResponseEntity.ok(participants);
   }
 
+  @Operation(
+      summary = "후보 시간 순위 조회",
+      description = "예상 소요 시간에 맞는 후보 시간 중 가능 인원이 많고 날짜가 이른 순으로 상위 k개를 반환")
+  @GetMapping("/calendar/{groupId}/{calendarId}/optimal-time/ranked")
+  public ResponseEntity<?> rankOptimalTimes(
+      @PathVariable Long groupId,
+      @PathVariable Long calendarId,
+      @RequestParam(defaultValue = "5") int k,
+      @LoginUser AuthenticatedUser loginUser) {
+    // 사용자가 그룹에 속해 있는지 확인
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
+    }
+    if (k <= 0 || k > 50) {
+      return ResponseEntity.badRequest().body("k 는 1 이상 50 이하여야 합니다.");
+    }
+
+    try {
+      return ResponseEntity.ok(groupService.rankOptimalTimes(calendarId, k));
+    } catch (RuntimeException e) {
+      log.error("후보 시간 순위 계산 중 오류 발생: {}", e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+          .body("후보 시간 순위 계산 중 오류가 발생했습니다.");
+    }
+  }
+
   @Operation(summary = "참가자의 가능한 시간 조회", description = "참가자가 제출한 가능한 시간을 조회")
   @GetMapping("/{groupId}/calendar/{calendarId}/available-times")
   public ResponseEntity<List<TimeSlot>> getAvailableTimes(
       @PathVariable Long groupId,
       @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @RequestParam(required = false) Integer granularity,
+      @LoginUser AuthenticatedUser loginUser) {
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
     }
 
+    if (granularity != null) {
+      try {
+        return ResponseEntity.ok(
+            groupService.getAvailableTimesForCalendar(calendarId, granularity));
+      } catch (IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(null);
+      }
+    }
+
     List<TimeSlot> availableTimes = groupService.getAvailableTimesForCalendar(calendarId);
     return ResponseEntity.ok(availableTimes);
   }
 
-  @Operation(summary = "알림 SSE 요청", description = "알림을 받는 메서드")
+  @Operation(
+      summary = "가능 시간 자동 제안",
+      description = "내 고정 일정, 개인 일정, 확정된 그룹 일정을 제외한 빈 시간을 선택 날짜/시간 범위 안에서 제안")
+  @GetMapping("/{groupId}/calendar/{calendarId}/proposed-availability")
+  public ResponseEntity<List<TimeSlot>> getProposedAvailability(
+      @PathVariable Long groupId,
+      @PathVariable Long calendarId,
+      @LoginUser AuthenticatedUser loginUser) {
+    // 그룹에 속해 있는지 확인
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+    }
+
+    // 다른 그룹의 일정 id 로 참가자 일정이 새지 않도록 일정이 이 그룹의 것인지 서비스에서 확인
+    try {
+      return ResponseEntity.ok(
+          freeBusyService.proposeAvailability(groupId, calendarId, loginUser.getId()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+    }
+  }
+
+  @Operation(
+      summary = "알림 SSE 요청",
+      description = "알림을 받는 메서드, 재연결 시 Last-Event-ID 헤더를 보내면 놓친 알림부터 이어서 전송")
   @GetMapping(value = "/notifications", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
   public ResponseEntity<SseEmitter> eventNotify(
-      @RequestHeader(value = "Authorization", required = true) String bearerToken,
+      @LoginUser AuthenticatedUser loginUser,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
       HttpServletResponse response) {
 
-    String loginId = extractLoginId(bearerToken);
-    User user =
-        userRepository
-            .findByLoginId(loginId)
-            .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
-
-    // 기존 Emitter가 있을 경우 제거
-    SseEmitter existingEmitter = emitterRepository.get(user.getId());
-    if (existingEmitter != null) {
-      existingEmitter.complete();
-      emitterRepository.deleteById(user.getId());
-    }
-
     // X-Accel-Buffering 헤더 추가
     response.setHeader("X-Accel-Buffering", "no");
 
     // 새로운 SSE Emitter 반환
-    SseEmitter emitter = notificationService.eventN(user.getId());
+    SseEmitter emitter = notificationService.eventN(loginUser.getId(), lastEventId);
     return ResponseEntity.ok(emitter);
   }
 
@@ -562,11 +570,7 @@ public class GroupController {
   @Operation(summary = "확정되지 않은 일정 Id로 조회", description = "calendarId를 사용하여 일정을 조회합니다.")
   @GetMapping("/calendar/{calendarId}")
   public ResponseEntity<GroupCalendarResponseDTO> getCalendar(
-      @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @PathVariable Long calendarId, @LoginUser AuthenticatedUser loginUser) {
     // 서비스에서 일정을 가져옴
     GroupCalendarResponseDTO calendar = groupService.getCalendar(calendarId);
 
@@ -577,11 +581,7 @@ public class GroupController {
   @Operation(summary = "확정된 일정 Id로 조회", description = "calendarId를 사용하여 일정을 조회합니다.")
   @GetMapping("/calendar/confirmed/{calendarId}")
   public ResponseEntity<GroupConfirmedCalendarDTO> getConfirmedCalendar(
-      @PathVariable Long calendarId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    String loginId = extractLoginId(bearerToken);
-
+      @PathVariable Long calendarId, @LoginUser AuthenticatedUser loginUser) {
     GroupConfirmedCalendarDTO calendar = groupService.getConfirmedCalendarById(calendarId);
 
     return ResponseEntity.ok(calendar);
@@ -0,0 +1,12 @@
+package goblin.app.Group.model.dto;
+
+import java.time.LocalDateTime;
+
+// 사용자별 바쁜 구간 조회용 프로젝션
+public interface BusyInterval {
+  String getLoginId();
+
+  LocalDateTime getStartTime();
+
+  LocalDateTime getEndTime();
+}
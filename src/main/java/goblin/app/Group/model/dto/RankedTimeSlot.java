@@ -0,0 +1,17 @@
+package goblin.app.Group.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+// 순위가 매겨진 후보 시간 (TimeSlot 에 순위/점수 추가)
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class RankedTimeSlot extends TimeSlot {
+  private int rank; // 1부터 시작
+  private double score; // 가능 인원 / 일정 참가자 수
+  private long slackMinutes; // 후보 앞뒤로 참가자 모두가 계속 가능한 여유 시간 (동점 처리용)
+}
@@ -8,6 +8,7 @@ import lombok.Setter;
 
 import jakarta.persistence.*;
 
+import goblin.app.Common.config.IdSequence;
 import goblin.app.User.model.entity.User;
 
 @Entity
@@ -18,7 +19,14 @@ import goblin.app.User.model.entity.User;
 public class AvailableTime {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "available_time_id")
+  @TableGenerator(
+      name = "available_time_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "available_time",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne
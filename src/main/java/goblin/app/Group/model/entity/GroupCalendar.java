@@ -56,6 +56,9 @@ public class GroupCalendar {
   @Column(nullable = false)
   private boolean confirmed = false; // 일정 확정 여부
 
+  @Column(nullable = false)
+  private boolean optimalTimesMaintained = false; // 최적 시간이 증분 갱신되고 있는지 여부 (false 면 최초 1회 전체 재계산)
+
   @ManyToOne
   @JoinColumn(name = "created_by", referencedColumnName = "login_id", nullable = false)
   private User createdBy;
@@ -11,7 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 
+import goblin.app.Common.config.IdSequence;
 import goblin.app.User.model.entity.User;
 
 @Entity
@@ -21,7 +23,14 @@ import goblin.app.User.model.entity.User;
 public class GroupCalendarParticipant { // 그룹에서 일정 만들 때 해당 일정 참여자 엔티티 (그룹 멤버 아님!)
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "group_calendar_participant_id")
+  @TableGenerator(
+      name = "group_calendar_participant_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "group_calendar_participant",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   private Long id;
 
   @Column(nullable = false)
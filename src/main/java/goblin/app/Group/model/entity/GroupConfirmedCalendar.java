@@ -12,10 +12,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "group_confirmed_calendar")
+@Table(
+    name = "group_confirmed_calendar",
+    indexes =
+        @Index(
+            name = "idx_group_confirmed_group_start",
+            columnList = "group_id, confirmed_start_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,13 +31,13 @@ public class GroupConfirmedCalendar {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false)
+  @Column(name = "group_id", nullable = false)
   private Long groupId;
 
   @Column(nullable = false)
   private Long calendarId;
 
-  @Column(nullable = false)
+  @Column(name = "confirmed_start_time", nullable = false)
   private LocalDateTime confirmedStartTime;
 
   @Column(nullable = false)
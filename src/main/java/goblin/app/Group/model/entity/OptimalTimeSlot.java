@@ -11,13 +11,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+
+import goblin.app.Common.config.IdSequence;
 
 @Entity
 @Getter
 @Setter
 public class OptimalTimeSlot {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "optimal_time_slot_id")
+  @TableGenerator(
+      name = "optimal_time_slot_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "optimal_time_slot",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   private Long id;
 
   private Long calendarId;
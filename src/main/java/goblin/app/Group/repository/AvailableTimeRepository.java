@@ -1,12 +1,16 @@
 package goblin.app.Group.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import goblin.app.Group.model.entity.AvailableTime;
+import goblin.app.User.model.entity.User;
 
 @Repository
 public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Long> {
@@ -16,4 +20,25 @@ public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Lo
 
   @Query("SELECT COUNT(DISTINCT a.user) FROM AvailableTime a WHERE a.calendarId = :calendarId")
   Long countDistinctUsersByCalendarId(Long calendarId);
+
+  // [from, to) 와 겹치는 가능 시간 (반열린 구간 기준)
+  @Query(
+      "SELECT a FROM AvailableTime a JOIN FETCH a.user WHERE a.calendarId = :calendarId"
+          + " AND a.startTime < :to AND a.endTime > :from")
+  List<AvailableTime> findOverlapping(
+      @Param("calendarId") Long calendarId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  // 한 사용자가 한 일정에 제출한 가능 시간 (재제출 시 교체 대상)
+  @Query(
+      "SELECT a FROM AvailableTime a WHERE a.calendarId = :calendarId AND a.user = :user"
+          + " ORDER BY a.startTime")
+  List<AvailableTime> findAllByCalendarIdAndUser(
+      @Param("calendarId") Long calendarId, @Param("user") User user);
+
+  // 한 사용자의 가능 시간을 delete 한 번으로 삭제
+  @Modifying
+  @Query("DELETE FROM AvailableTime a WHERE a.calendarId = :calendarId AND a.user = :user")
+  int deleteAllByCalendarIdAndUser(@Param("calendarId") Long calendarId, @Param("user") User user);
 }
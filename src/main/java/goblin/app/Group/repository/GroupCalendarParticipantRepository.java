@@ -1,11 +1,13 @@
 package goblin.app.Group.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.transaction.Transactional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +30,12 @@ public interface GroupCalendarParticipantRepository
   @Query(
       "SELECT COUNT(DISTINCT p.user) FROM GroupCalendarParticipant p WHERE p.calendarId = :calendarId")
   Long countUsersByCalendarId(@Param("calendarId") Long calendarId);
+
+  // 일정에서 빠진 참가자들을 delete 한 번으로 삭제
+  @Modifying
+  @Query(
+      "DELETE FROM GroupCalendarParticipant p"
+          + " WHERE p.calendarId = :calendarId AND p.user.id IN :userIds")
+  void deleteAllByCalendarIdAndUserIdIn(
+      @Param("calendarId") Long calendarId, @Param("userIds") Collection<Long> userIds);
 }
@@ -3,7 +3,10 @@ package goblin.app.Group.repository;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +25,11 @@ public interface GroupCalendarRepository extends JpaRepository<GroupCalendar, Lo
   Optional<GroupCalendar> findByGroupIdAndCalendarId(
       @Param("groupId") Long groupId, @Param("calendarId") Long calendarId);
 
+  // 최적 시간 갱신이 동시에 일어나지 않도록 일정 행에 쓰기 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT gc FROM GroupCalendar gc WHERE gc.id = :calendarId")
+  Optional<GroupCalendar> findByIdForUpdate(@Param("calendarId") Long calendarId);
+
   // 특정 그룹에 속한 active(삭제되지 않은) 일정 조회
   @Query("SELECT c FROM GroupCalendar c WHERE c.group.id = :groupId AND c.deleted = false")
   List<GroupCalendar> findAllByGroupId(@Param("groupId") Long groupId);
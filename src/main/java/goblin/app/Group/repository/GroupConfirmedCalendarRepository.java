@@ -1,5 +1,8 @@
 package goblin.app.Group.repository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,7 +10,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import goblin.app.Group.model.dto.BusyInterval;
 import goblin.app.Group.model.entity.GroupConfirmedCalendar;
+import goblin.app.User.model.entity.User;
 
 public interface GroupConfirmedCalendarRepository
     extends JpaRepository<GroupConfirmedCalendar, Long> {
@@ -18,16 +23,55 @@ public interface GroupConfirmedCalendarRepository
 
   Optional<GroupConfirmedCalendar> findByCalendarId(Long calendarId);
 
-  @Query(
-      "SELECT c FROM GroupConfirmedCalendar c WHERE c.groupId = :groupId AND YEAR(c.confirmedStartTime) = :year AND MONTH(c.confirmedStartTime) = :month")
-  List<GroupConfirmedCalendar> findAllByGroupIdAndMonth(
-      @Param("groupId") Long groupId, @Param("year") int year, @Param("month") int month);
+  // 확정 일정 하나가 걸칠 수 있는 최대 길이
+  // 시작 시각 하한을 두어 (group_id, confirmed_start_time) 인덱스 범위 검색이 되도록 함
+  Duration MAX_EVENT_SPAN = Duration.ofDays(7);
 
+  // 그룹의 확정 일정 중 [from, to) 와 겹치는 것 (시작 시각 순)
   @Query(
-      "SELECT c FROM GroupConfirmedCalendar c WHERE c.groupId = :groupId AND YEAR(c.confirmedStartTime) = :year AND MONTH(c.confirmedStartTime) = :month AND DAY(c.confirmedStartTime) = :day")
-  List<GroupConfirmedCalendar> findAllByGroupIdAndDay(
+      "SELECT c FROM GroupConfirmedCalendar c WHERE c.groupId = :groupId"
+          + " AND c.confirmedStartTime >= :lookback AND c.confirmedStartTime < :to"
+          + " AND (c.confirmedStartTime >= :from OR c.confirmedEndTime > :from)"
+          + " ORDER BY c.confirmedStartTime")
+  List<GroupConfirmedCalendar> findOverlapping(
       @Param("groupId") Long groupId,
-      @Param("year") int year,
-      @Param("month") int month,
-      @Param("day") int day);
+      @Param("lookback") LocalDateTime lookback,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  default List<GroupConfirmedCalendar> findOverlapping(
+      Long groupId, LocalDateTime from, LocalDateTime to) {
+    return findOverlapping(groupId, from.minus(MAX_EVENT_SPAN), from, to);
+  }
+
+  // 여러 그룹의 확정 일정 중 [from, to) 와 겹치는 것 (그룹 구분 없이 시작 시각 순)
+  @Query(
+      "SELECT c FROM GroupConfirmedCalendar c WHERE c.groupId IN :groupIds"
+          + " AND c.confirmedStartTime >= :lookback AND c.confirmedStartTime < :to"
+          + " AND (c.confirmedStartTime >= :from OR c.confirmedEndTime > :from)"
+          + " ORDER BY c.confirmedStartTime, c.confirmedEndTime")
+  List<GroupConfirmedCalendar> findOverlappingByGroupIds(
+      @Param("groupIds") Collection<Long> groupIds,
+      @Param("lookback") LocalDateTime lookback,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  default List<GroupConfirmedCalendar> findOverlappingByGroupIds(
+      Collection<Long> groupIds, LocalDateTime from, LocalDateTime to) {
+    return findOverlappingByGroupIds(groupIds, from.minus(MAX_EVENT_SPAN), from, to);
+  }
+
+  // 사용자들이 참여하는 확정 일정 중 [from, to) 와 겹치는 것 (excludeCalendarId 일정은 제외)
+  @Query(
+      "SELECT p.user.loginId AS loginId, c.confirmedStartTime AS startTime,"
+          + " c.confirmedEndTime AS endTime"
+          + " FROM GroupConfirmedCalendar c, GroupCalendarParticipant p"
+          + " WHERE p.calendarId = c.calendarId AND p.user IN :users"
+          + " AND c.calendarId <> :excludeCalendarId"
+          + " AND c.confirmedStartTime < :to AND c.confirmedEndTime > :from")
+  List<BusyInterval> findBusyIntervalsOfParticipants(
+      @Param("users") Collection<User> users,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      @Param("excludeCalendarId") Long excludeCalendarId);
 }
@@ -1,9 +1,12 @@
 package goblin.app.Group.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import goblin.app.Group.model.entity.GroupMember;
 import goblin.app.User.model.entity.User;
@@ -18,4 +21,21 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
   List<GroupMember> findByGroupId(Long groupId);
 
   boolean existsByGroupIdAndUser(Long groupId, User user);
+
+  // 사용자가 속한 삭제되지 않은 그룹 id 목록 (멤버십 캐시 적재용)
+  @Query(
+      "SELECT gm.groupId FROM GroupMember gm, Group g"
+          + " WHERE g.groupId = gm.groupId AND gm.user.id = :userId AND g.deleted = false")
+  List<Long> findActiveGroupIdsByUserId(@Param("userId") Long userId);
+
+  // 그룹에 속한 사용자들의 users.id
+  @Query("SELECT gm.user.id FROM GroupMember gm WHERE gm.groupId = :groupId")
+  List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+  // 주어진 사용자들 중 그룹 멤버인 사용자의 users.id (참가자 일괄 검증용)
+  @Query(
+      "SELECT gm.user.id FROM GroupMember gm"
+          + " WHERE gm.groupId = :groupId AND gm.user.id IN :userIds")
+  List<Long> findMemberUserIds(
+      @Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
 }
@@ -1,9 +1,26 @@
 package goblin.app.Group.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import goblin.app.Group.model.entity.OptimalTimeSlot;
 
 @Repository
-public interface OptimalTimeSlotRepository extends JpaRepository<OptimalTimeSlot, Long> {}
+public interface OptimalTimeSlotRepository extends JpaRepository<OptimalTimeSlot, Long> {
+
+  List<OptimalTimeSlot> findByCalendarIdOrderByStartTimeAsc(Long calendarId);
+
+  // [from, to) 와 겹치거나 경계에서 맞닿는 최적 시간 (경계 병합용으로 맞닿은 구간도 포함)
+  @Query(
+      "SELECT o FROM OptimalTimeSlot o WHERE o.calendarId = :calendarId"
+          + " AND o.startTime <= :to AND o.endTime >= :from ORDER BY o.startTime")
+  List<OptimalTimeSlot> findTouchingRange(
+      @Param("calendarId") Long calendarId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,314 @@
+package goblin.app.Group.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.GroupCalendar;
+
+/*
+ * 그룹 일정 하나에 대한 비트셋 가능 시간 격자
+ * - 선택된 날짜마다 [startTime, endTime) 범위를 granularity(분) 단위 셀로 나눔
+ * - 참가자마다 long[] 비트셋 하나를 가지며, 셀 c 가 켜져 있으면 해당 셀 전체가 가능한 시간
+ * - 교집합/정족수/특정 셀에 가능한 사람 조회는 워드 단위 AND, popcount 로 처리
+ */
+public class AvailabilityGrid {
+
+  private final List<LocalDate> dates;
+  private final LocalTime dayStart;
+  private final int granularity;
+  private final int cellsPerDay;
+  private final int cellCount;
+  private final int wordCount;
+
+  private final List<String> participants = new ArrayList<>();
+  private final Map<String, Integer> participantIndex = new HashMap<>();
+  private final List<long[]> rows = new ArrayList<>();
+
+  private AvailabilityGrid(
+      List<LocalDate> dates, LocalTime dayStart, int windowMinutes, int granularity) {
+    if (granularity <= 0 || 60 % granularity != 0) {
+      throw new IllegalArgumentException("격자 단위는 60의 약수(분)여야 합니다: granularity=" + granularity);
+    }
+    if (windowMinutes < granularity) {
+      throw new IllegalArgumentException("일정 시간 범위가 격자 단위보다 짧습니다: granularity=" + granularity);
+    }
+    this.dates = dates;
+    this.dayStart = dayStart;
+    this.granularity = granularity;
+    this.cellsPerDay = windowMinutes / granularity;
+    this.cellCount = cellsPerDay * dates.size();
+    this.wordCount = (cellCount + 63) >>> 6;
+  }
+
+  // 그룹 일정의 선택 날짜와 시간 범위로 빈 격자 생성
+  public static AvailabilityGrid of(GroupCalendar calendar, int granularity) {
+    List<LocalDate> dates = calendar.getSelectedDates().stream().distinct().sorted().toList();
+    long windowMinutes =
+        Duration.between(calendar.getStartTime(), calendar.getEndTime()).toMinutes();
+    if (windowMinutes <= 0) {
+      windowMinutes += 24 * 60; // 자정을 넘기는 시간 범위
+    }
+    return new AvailabilityGrid(dates, calendar.getStartTime(), (int) windowMinutes, granularity);
+  }
+
+  public int cellCount() {
+    return cellCount;
+  }
+
+  public int granularity() {
+    return granularity;
+  }
+
+  public List<String> participants() {
+    return participants;
+  }
+
+  public LocalDateTime cellStart(int cell) {
+    return dates
+        .get(cell / cellsPerDay)
+        .atTime(dayStart)
+        .plusMinutes((long) (cell % cellsPerDay) * granularity);
+  }
+
+  public LocalDateTime cellEnd(int cell) {
+    return cellStart(cell).plusMinutes(granularity);
+  }
+
+  // [start, end) 구간이 완전히 덮는 셀만 가능 시간으로 표시 (선택 날짜/시간 범위 밖은 잘라냄)
+  public void mark(String participant, LocalDateTime start, LocalDateTime end) {
+    long[] row = rowOf(participant);
+    for (int day = 0; day < dates.size(); day++) {
+      LocalDateTime windowStart = dates.get(day).atTime(dayStart);
+      LocalDateTime windowEnd = windowStart.plusMinutes((long) cellsPerDay * granularity);
+      if (!start.isBefore(windowEnd) || !end.isAfter(windowStart)) {
+        continue;
+      }
+      long fromMinute = Math.max(0, Duration.between(windowStart, start).toMinutes());
+      long toMinute =
+          Math.min(
+              (long) cellsPerDay * granularity, Duration.between(windowStart, end).toMinutes());
+      int fromCell = (int) ((fromMinute + granularity - 1) / granularity); // 올림
+      int toCell = (int) (toMinute / granularity); // 내림
+      if (fromCell < toCell) {
+        setRange(row, day * cellsPerDay + fromCell, day * cellsPerDay + toCell);
+      }
+    }
+  }
+
+  // 주어진 참가자 모두가 가능한 셀 (워드 단위 AND)
+  public long[] intersection(Collection<String> names) {
+    long[] result = new long[wordCount];
+    Arrays.fill(result, -1L);
+    clearTail(result);
+    for (String name : names) {
+      Integer index = participantIndex.get(name);
+      if (index == null) {
+        return new long[wordCount];
+      }
+      long[] row = rows.get(index);
+      for (int w = 0; w < wordCount; w++) {
+        result[w] &= row[w];
+      }
+    }
+    return result;
+  }
+
+  // 셀마다 가능한 참가자 수
+  public int[] counts() {
+    int[] counts = new int[cellCount];
+    for (long[] row : rows) {
+      for (int w = 0; w < wordCount; w++) {
+        long word = row[w];
+        while (word != 0) {
+          counts[(w << 6) + Long.numberOfTrailingZeros(word)]++;
+          word &= word - 1;
+        }
+      }
+    }
+    return counts;
+  }
+
+  /*
+   * 최소 quorum 명 이상이 가능한 셀
+   * - 워드마다 셀 64 개의 참가자 수를 비트 슬라이스 카운터(planes[k] = 수의 k 번째 비트)로 더함
+   * - 더한 수와 quorum 을 상위 비트부터 워드 단위로 비교 (gt: 이미 큼, eq: 지금까지 같음)
+   */
+  public long[] quorum(int quorum) {
+    long[] result = new long[wordCount];
+    if (quorum > rows.size()) {
+      return result;
+    }
+    if (quorum <= 0) {
+      Arrays.fill(result, -1L);
+      clearTail(result);
+      return result;
+    }
+    long[] planes = new long[32 - Integer.numberOfLeadingZeros(rows.size())];
+    for (int w = 0; w < wordCount; w++) {
+      Arrays.fill(planes, 0L);
+      for (long[] row : rows) {
+        long carry = row[w];
+        for (int k = 0; k < planes.length && carry != 0; k++) {
+          long next = planes[k] & carry;
+          planes[k] ^= carry;
+          carry = next;
+        }
+      }
+      long gt = 0;
+      long eq = -1L;
+      for (int k = planes.length - 1; k >= 0; k--) {
+        if ((quorum >>> k & 1) != 0) {
+          eq &= planes[k];
+        } else {
+          gt |= eq & planes[k];
+          eq &= ~planes[k];
+        }
+      }
+      result[w] = gt | eq;
+    }
+    return result;
+  }
+
+  // 특정 셀에 가능한 참가자 목록
+  public List<String> freeAt(int cell) {
+    List<String> free = new ArrayList<>();
+    int word = cell >>> 6;
+    long mask = 1L << cell;
+    for (int i = 0; i < rows.size(); i++) {
+      if ((rows.get(i)[word] & mask) != 0) {
+        free.add(participants.get(i));
+      }
+    }
+    return free;
+  }
+
+  // 참가자 한 명이 가능한 연속 구간 (날짜 경계에서 끊음)
+  public List<TimeSlot> runsOf(String participant) {
+    Integer index = participantIndex.get(participant);
+    List<TimeSlot> slots = new ArrayList<>();
+    if (index == null) {
+      return slots;
+    }
+    long[] row = rows.get(index);
+    int cell = nextSetBit(row, 0);
+    while (cell >= 0) {
+      int dayEnd = (cell / cellsPerDay + 1) * cellsPerDay;
+      int end = Math.min(nextClearBit(row, cell), dayEnd);
+      slots.add(
+          TimeSlot.builder()
+              .startTime(cellStart(cell))
+              .endTime(cellEnd(end - 1))
+              .participants(new ArrayList<>(List.of(participant)))
+              .build());
+      cell = nextSetBit(row, end);
+    }
+    return slots;
+  }
+
+  /*
+   * 참가자 집합이 일정한 최대 구간 중 minParticipants 명 이상인 구간
+   * - 참가자별로 (w ^ (w << 1)) 를 OR 해서 집합이 바뀌는 셀(경계)을 워드 단위로 구함
+   * - 경계 사이 구간은 집합이 같으므로 구간 시작 셀에서만 참가자를 조회
+   */
+  public List<TimeSlot> commonSlots(int minParticipants) {
+    long[] boundaries = new long[wordCount];
+    for (long[] row : rows) {
+      long carry = 0;
+      for (int w = 0; w < wordCount; w++) {
+        boundaries[w] |= row[w] ^ ((row[w] << 1) | carry);
+        carry = row[w] >>> 63;
+      }
+    }
+    for (int cell = 0; cell < cellCount; cell += cellsPerDay) {
+      boundaries[cell >>> 6] |= 1L << cell; // 날짜가 바뀌는 셀도 경계
+    }
+
+    List<TimeSlot> slots = new ArrayList<>();
+    int start = nextSetBit(boundaries, 0);
+    while (start >= 0 && start < cellCount) {
+      int end = nextSetBit(boundaries, start + 1);
+      if (end < 0 || end > cellCount) {
+        end = cellCount;
+      }
+      List<String> free = freeAt(start);
+      if (!free.isEmpty() && free.size() >= minParticipants) {
+        slots.add(
+            TimeSlot.builder()
+                .startTime(cellStart(start))
+                .endTime(cellEnd(end - 1))
+                .participants(free)
+                .build());
+      }
+      start = end;
+    }
+    return slots;
+  }
+
+  private long[] rowOf(String participant) {
+    Integer index = participantIndex.get(participant);
+    if (index == null) {
+      index = participants.size();
+      participants.add(participant);
+      participantIndex.put(participant, index);
+      rows.add(new long[wordCount]);
+    }
+    return rows.get(index);
+  }
+
+  private void clearTail(long[] words) {
+    if (wordCount > 0 && (cellCount & 63) != 0) {
+      words[wordCount - 1] &= (1L << cellCount) - 1;
+    }
+  }
+
+  private static void setRange(long[] words, int from, int to) {
+    for (int cell = from; cell < to; ) {
+      int word = cell >>> 6;
+      int bitEnd = Math.min(to, (word + 1) << 6);
+      long mask = (bitEnd - cell == 64) ? -1L : ((1L << (bitEnd - cell)) - 1) << cell;
+      words[word] |= mask;
+      cell = bitEnd;
+    }
+  }
+
+  private int nextSetBit(long[] words, int from) {
+    if (from >= cellCount) {
+      return -1;
+    }
+    int w = from >>> 6;
+    long word = words[w] & (-1L << from);
+    while (true) {
+      if (word != 0) {
+        int cell = (w << 6) + Long.numberOfTrailingZeros(word);
+        return cell < cellCount ? cell : -1;
+      }
+      if (++w == wordCount) {
+        return -1;
+      }
+      word = words[w];
+    }
+  }
+
+  private int nextClearBit(long[] words, int from) {
+    int w = from >>> 6;
+    long word = ~words[w] & (-1L << from);
+    while (true) {
+      if (word != 0) {
+        return Math.min((w << 6) + Long.numberOfTrailingZeros(word), cellCount);
+      }
+      if (++w == wordCount) {
+        return cellCount;
+      }
+      word = ~words[w];
+    }
+  }
+}
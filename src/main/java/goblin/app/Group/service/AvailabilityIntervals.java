@@ -0,0 +1,52 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * 제출된 가능 시간 정규화
+ * - 길이가 없거나 끝이 시작보다 앞선 구간은 IllegalArgumentException 으로 거절 (자정을 넘기는 구간은 날짜별로 나눠 제출)
+ * - 시작 시각 순으로 정렬한 뒤 겹치거나 맞닿은 구간([a, b) + [b, c) => [a, c))을 하나로 합침
+ * => 같은 사용자가 같은 시간을 여러 번 제출해도 행은 한 번만 저장됨
+ */
+public final class AvailabilityIntervals {
+
+  private AvailabilityIntervals() {}
+
+  public record Interval(LocalDateTime start, LocalDateTime end) {}
+
+  public static List<Interval> coalesce(Collection<Interval> intervals) {
+    List<Interval> sorted = new ArrayList<>(intervals.size());
+    for (Interval interval : intervals) {
+      if (interval.start() == null || interval.end() == null) {
+        throw new IllegalArgumentException("가능 시간의 시작/종료 시각이 비어 있습니다.");
+      }
+      if (!interval.start().isBefore(interval.end())) {
+        throw new IllegalArgumentException(
+            "가능 시간의 종료 시각은 시작 시각보다 늦어야 합니다 (자정을 넘기면 날짜별로 나눠 제출): "
+                + interval.start()
+                + " ~ "
+                + interval.end());
+      }
+      sorted.add(interval);
+    }
+    sorted.sort(Comparator.comparing(Interval::start));
+
+    List<Interval> merged = new ArrayList<>(sorted.size());
+    for (Interval interval : sorted) {
+      int last = merged.size() - 1;
+      if (last >= 0 && !interval.start().isAfter(merged.get(last).end())) {
+        Interval previous = merged.get(last);
+        if (interval.end().isAfter(previous.end())) {
+          merged.set(last, new Interval(previous.start(), interval.end()));
+        }
+      } else {
+        merged.add(interval);
+      }
+    }
+    return merged;
+  }
+}
@@ -0,0 +1,112 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.AvailableTime;
+
+/*
+ * 가능 시간 스윕 라인 엔진
+ * 1. 모든 가능 시간을 시작(+1)/종료(-1) 경계 이벤트로 바꾼 뒤 시간 순으로 한 번만 정렬
+ * 2. 같은 시각에서는 종료 이벤트를 먼저 처리 (구간은 [start, end) 반열린 구간)
+ * 3. 경계 사이마다 현재 참가자 집합이 유지되므로, 집합이 바뀌는 지점에서만 구간을 끊음
+ * => 참가자 집합이 정확히 같은 최대 구간들을 O(n log n) 으로 반환
+ */
+@Component
+public class AvailabilitySweepLine {
+
+  // 제출된 가능 시간을 참가자(username) 기준으로 스윕
+  public List<TimeSlot> sweep(Collection<AvailableTime> availableTimes) {
+    return sweep(
+        availableTimes,
+        AvailableTime::getStartTime,
+        AvailableTime::getEndTime,
+        time -> time.getUser().getUsername());
+  }
+
+  public <T> List<TimeSlot> sweep(
+      Collection<T> intervals,
+      Function<T, LocalDateTime> startOf,
+      Function<T, LocalDateTime> endOf,
+      Function<T, String> participantOf) {
+    List<Boundary> boundaries = new ArrayList<>(intervals.size() * 2);
+    for (T interval : intervals) {
+      LocalDateTime start = startOf.apply(interval);
+      LocalDateTime end = endOf.apply(interval);
+      if (start == null || end == null || !start.isBefore(end)) {
+        continue; // 길이가 없는 구간은 무시
+      }
+      String participant = participantOf.apply(interval);
+      boundaries.add(new Boundary(start, 1, participant));
+      boundaries.add(new Boundary(end, -1, participant));
+    }
+    boundaries.sort(Comparator.comparing((Boundary b) -> b.time).thenComparingInt(b -> b.delta));
+
+    // 같은 참가자가 겹치는 구간을 여러 번 제출해도 한 명으로 세기 위한 카운터
+    TreeMap<String, Integer> active = new TreeMap<>();
+    List<TimeSlot> result = new ArrayList<>();
+
+    int i = 0;
+    while (i < boundaries.size()) {
+      LocalDateTime time = boundaries.get(i).time;
+      while (i < boundaries.size() && boundaries.get(i).time.equals(time)) {
+        Boundary boundary = boundaries.get(i++);
+        active.merge(boundary.participant, boundary.delta, (a, b) -> a + b == 0 ? null : a + b);
+      }
+
+      if (active.isEmpty() || i == boundaries.size()) {
+        continue;
+      }
+
+      LocalDateTime next = boundaries.get(i).time;
+      TimeSlot last = result.isEmpty() ? null : result.get(result.size() - 1);
+      if (last != null
+          && last.getEndTime().equals(time)
+          && sameParticipants(last.getParticipants(), active.keySet())) {
+        last.setEndTime(next); // 참가자 집합이 그대로면 이전 구간을 연장
+      } else {
+        result.add(
+            TimeSlot.builder()
+                .startTime(time)
+                .endTime(next)
+                .participants(new ArrayList<>(active.keySet()))
+                .build());
+      }
+    }
+    return result;
+  }
+
+  // 두 집합 모두 정렬된 상태이므로 순서대로 비교
+  private boolean sameParticipants(List<String> previous, Collection<String> current) {
+    if (previous.size() != current.size()) {
+      return false;
+    }
+    int index = 0;
+    for (String participant : current) {
+      if (!previous.get(index++).equals(participant)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Boundary {
+    private final LocalDateTime time;
+    private final int delta;
+    private final String participant;
+
+    private Boundary(LocalDateTime time, int delta, String participant) {
+      this.time = time;
+      this.delta = delta;
+      this.participant = participant;
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import goblin.app.Group.model.dto.TimeSlot;
+
+/*
+ * 사용자별 바쁜 시간 인덱스
+ * - 사용자마다 정렬/병합된 구간을 starts[], ends[] (분 단위 epoch) 두 배열로 보관
+ * - 병합 후에는 구간이 겹치지 않으므로 ends[] 도 정렬되어 있어 이분 탐색 한 번으로 겹침 여부 판단
+ * - 시간대 변환 없이 LocalDateTime 을 그대로 분 단위로 바꿔 사용
+ */
+public class FreeBusyIndex {
+
+  private static final long[] EMPTY = new long[0];
+
+  private final Map<String, long[]> starts;
+  private final Map<String, long[]> ends;
+
+  private FreeBusyIndex(Map<String, long[]> starts, Map<String, long[]> ends) {
+    this.starts = starts;
+    this.ends = ends;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  // [from, to) 에 바쁜 구간이 하나라도 있는지
+  public boolean isBusy(String user, LocalDateTime from, LocalDateTime to) {
+    long[] userStarts = starts.getOrDefault(user, EMPTY);
+    long[] userEnds = ends.getOrDefault(user, EMPTY);
+    int index = firstEndAfter(userEnds, toMinute(from));
+    return index < userStarts.length && userStarts[index] < toMinute(to);
+  }
+
+  // 참가자 목록 전체에 대해 [from, to) 에 바쁜 사람만 한 번에 반환
+  public Set<String> busyBetween(Collection<String> users, LocalDateTime from, LocalDateTime to) {
+    Set<String> busy = new LinkedHashSet<>();
+    for (String user : users) {
+      if (isBusy(user, from, to)) {
+        busy.add(user);
+      }
+    }
+    return busy;
+  }
+
+  // [from, to) 안에서 바쁜 구간을 뺀 나머지 (빈 시간)
+  public List<TimeSlot> freeWithin(String user, LocalDateTime from, LocalDateTime to) {
+    long[] userStarts = starts.getOrDefault(user, EMPTY);
+    long[] userEnds = ends.getOrDefault(user, EMPTY);
+    long cursor = toMinute(from);
+    long end = toMinute(to);
+
+    List<TimeSlot> free = new ArrayList<>();
+    for (int i = firstEndAfter(userEnds, cursor);
+        i < userStarts.length && userStarts[i] < end && cursor < end;
+        i++) {
+      if (userStarts[i] > cursor) {
+        free.add(slot(user, cursor, userStarts[i]));
+      }
+      cursor = Math.max(cursor, userEnds[i]);
+    }
+    if (cursor < end) {
+      free.add(slot(user, cursor, end));
+    }
+    return free;
+  }
+
+  private static TimeSlot slot(String user, long start, long end) {
+    return TimeSlot.builder()
+        .startTime(fromMinute(start))
+        .endTime(fromMinute(end))
+        .participants(new ArrayList<>(List.of(user)))
+        .build();
+  }
+
+  // ends[i] > minute 인 첫 인덱스
+  private static int firstEndAfter(long[] ends, long minute) {
+    int low = 0;
+    int high = ends.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ends[mid] > minute) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  static long toMinute(LocalDateTime time) {
+    return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+  }
+
+  static LocalDateTime fromMinute(long minute) {
+    return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+  }
+
+  public static class Builder {
+
+    private final Map<String, LongList> intervals = new HashMap<>();
+
+    public Builder add(String user, LocalDateTime start, LocalDateTime end) {
+      return add(user, toMinute(start), toMinute(end));
+    }
+
+    public Builder add(String user, long startMinute, long endMinute) {
+      if (startMinute < endMinute) {
+        intervals.computeIfAbsent(user, key -> new LongList()).add(startMinute, endMinute);
+      }
+      return this;
+    }
+
+    // 바쁜 구간이 없는 사용자도 목록에 포함시킬 때 사용
+    public Builder user(String user) {
+      intervals.computeIfAbsent(user, key -> new LongList());
+      return this;
+    }
+
+    public FreeBusyIndex build() {
+      Map<String, long[]> starts = new HashMap<>();
+      Map<String, long[]> ends = new HashMap<>();
+      for (Map.Entry<String, LongList> entry : intervals.entrySet()) {
+        LongList list = entry.getValue();
+        int count = list.size / 2;
+
+        // (start, end) 쌍을 start 기준으로 정렬
+        long[][] pairs = new long[count][];
+        for (int i = 0; i < count; i++) {
+          pairs[i] = new long[] {list.values[2 * i], list.values[2 * i + 1]};
+        }
+        Arrays.sort(pairs, (a, b) -> Long.compare(a[0], b[0]));
+
+        long[] mergedStarts = new long[count];
+        long[] mergedEnds = new long[count];
+        int merged = 0;
+        for (long[] pair : pairs) {
+          if (merged > 0 && pair[0] <= mergedEnds[merged - 1]) {
+            mergedEnds[merged - 1] = Math.max(mergedEnds[merged - 1], pair[1]);
+          } else {
+            mergedStarts[merged] = pair[0];
+            mergedEnds[merged] = pair[1];
+            merged++;
+          }
+        }
+        starts.put(entry.getKey(), Arrays.copyOf(mergedStarts, merged));
+        ends.put(entry.getKey(), Arrays.copyOf(mergedEnds, merged));
+      }
+      return new FreeBusyIndex(starts, ends);
+    }
+  }
+
+  // 박싱 없이 (start, end) 를 이어 붙여 담는 가변 배열
+  private static final class LongList {
+    private long[] values = new long[8];
+    private int size;
+
+    private void add(long start, long end) {
+      if (size + 2 > values.length) {
+        values = Arrays.copyOf(values, values.length * 2);
+      }
+      values[size++] = start;
+      values[size++] = end;
+    }
+  }
+}
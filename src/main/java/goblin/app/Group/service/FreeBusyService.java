@@ -0,0 +1,143 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import goblin.app.Calendar.model.entity.UserCalRepository;
+import goblin.app.Calendar.model.entity.UserCalendar;
+import goblin.app.FixedSchedule.model.entity.FixedSchedule;
+import goblin.app.FixedSchedule.repository.FixedScheduleRepository;
+import goblin.app.FixedSchedule.service.WeeklyRecurrence;
+import goblin.app.Group.model.dto.BusyInterval;
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.GroupCalendar;
+import goblin.app.Group.model.entity.GroupCalendarParticipant;
+import goblin.app.Group.repository.GroupCalendarParticipantRepository;
+import goblin.app.Group.repository.GroupCalendarRepository;
+import goblin.app.Group.repository.GroupConfirmedCalendarRepository;
+import goblin.app.User.model.entity.User;
+
+/*
+ * 고정 일정(FixedSchedule), 개인 일정(UserCalendar), 확정된 그룹 일정(GroupConfirmedCalendar)을
+ * 합쳐 사용자별 바쁜 시간 인덱스를 만들고, 그룹 일정의 가능 시간을 자동으로 제안
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FreeBusyService {
+
+  private final FixedScheduleRepository fixedScheduleRepository;
+  private final UserCalRepository userCalRepository;
+  private final GroupConfirmedCalendarRepository groupConfirmedCalendarRepository;
+  private final GroupCalendarRepository groupCalendarRepository;
+  private final GroupCalendarParticipantRepository groupCalendarParticipantRepository;
+
+  // 사용자들의 [from, to) 바쁜 시간 인덱스 (사용자 키는 loginId)
+  @Transactional
+  public FreeBusyIndex buildIndex(
+      Collection<User> users, LocalDateTime from, LocalDateTime to, Long excludeCalendarId) {
+    FreeBusyIndex.Builder builder = FreeBusyIndex.builder();
+    if (users.isEmpty()) {
+      return builder.build();
+    }
+    users.forEach(user -> builder.user(user.getLoginId()));
+
+    // 1. 고정 일정: 그룹마다 복사본이 있으므로 중복은 인덱스 병합 단계에서 합쳐짐
+    for (FixedSchedule schedule : fixedScheduleRepository.findByUserIn(users)) {
+      addWeeklyOccurrences(builder, schedule, from, to);
+    }
+
+    // 2. 개인 일정
+    for (UserCalendar calendar : userCalRepository.findOverlappingByUsers(users, from, to)) {
+      if (!Boolean.TRUE.equals(calendar.getDeleted())) {
+        builder.add(
+            calendar.getUser().getLoginId(), calendar.getStartTime(), calendar.getEndTime());
+      }
+    }
+
+    // 3. 참여 중인 확정 그룹 일정
+    for (BusyInterval interval :
+        groupConfirmedCalendarRepository.findBusyIntervalsOfParticipants(
+            users, from, to, excludeCalendarId == null ? -1L : excludeCalendarId)) {
+      builder.add(interval.getLoginId(), interval.getStartTime(), interval.getEndTime());
+    }
+
+    return builder.build();
+  }
+
+  /*
+   * 그룹 일정의 선택 날짜/시간 범위에서 요청한 사용자 본인의 비어 있는 시간을 제안
+   * - 다른 참가자의 빈 시간은 개인 일정에서 나오므로 돌려주지 않음
+   * - 일정이 없거나 groupId 의 일정이 아니면 IllegalArgumentException, 참가자가 아니면 빈 목록
+   */
+  @Transactional
+  public List<TimeSlot> proposeAvailability(Long groupId, Long calendarId, Long userId) {
+    GroupCalendar calendar =
+        groupCalendarRepository
+            .findById(calendarId)
+            .filter(found -> found.getGroup().getGroupId().equals(groupId))
+            .orElseThrow(() -> new IllegalArgumentException("해당 그룹의 일정을 찾을 수 없습니다."));
+
+    User user = null;
+    for (GroupCalendarParticipant participant :
+        groupCalendarParticipantRepository.findAllByCalendarId(calendarId)) {
+      if (participant.getUser().getId().equals(userId)) {
+        user = participant.getUser();
+        break;
+      }
+    }
+
+    List<LocalDate> dates = calendar.getSelectedDates().stream().distinct().sorted().toList();
+    if (dates.isEmpty() || user == null) {
+      return new ArrayList<>();
+    }
+    LocalDateTime from = windowStart(calendar, dates.get(0));
+    LocalDateTime to = windowEnd(calendar, dates.get(dates.size() - 1));
+    FreeBusyIndex index = buildIndex(List.of(user), from, to, calendarId);
+
+    List<TimeSlot> proposals = new ArrayList<>();
+    for (LocalDate date : dates) {
+      proposals.addAll(
+          index.freeWithin(
+              user.getLoginId(), windowStart(calendar, date), windowEnd(calendar, date)));
+    }
+    log.info(
+        "가능 시간 자동 제안 완료: calendarId = {}, userId = {}, 제안 구간 수 = {}",
+        calendarId,
+        userId,
+        proposals.size());
+    return proposals;
+  }
+
+  private LocalDateTime windowStart(GroupCalendar calendar, LocalDate date) {
+    return date.atTime(calendar.getStartTime());
+  }
+
+  // 종료 시각이 시작 시각보다 이르면 다음 날로 넘어가는 범위
+  private LocalDateTime windowEnd(GroupCalendar calendar, LocalDate date) {
+    LocalDateTime end = date.atTime(calendar.getEndTime());
+    return end.isAfter(windowStart(calendar, date)) ? end : end.plusDays(1);
+  }
+
+  // 요일 반복 고정 일정 중 [from, to) 와 겹치는 발생만 인덱스에 추가 (자정을 넘기는 일정 포함)
+  private void addWeeklyOccurrences(
+      FreeBusyIndex.Builder builder, FixedSchedule schedule, LocalDateTime from, LocalDateTime to) {
+    String loginId = schedule.getUser().getLoginId();
+    WeeklyRecurrence.OccurrenceIterator iterator =
+        WeeklyRecurrence.of(schedule).overlapping(from, to);
+    while (iterator.hasNext()) {
+      long start = iterator.nextLong();
+      builder.add(loginId, start, start + iterator.durationMinutes());
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package goblin.app.Group.service;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import goblin.app.Group.repository.GroupMemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * (groupId, userId) 멤버 여부 캐시
+ * - 사용자마다 속한 그룹 id 를 정렬된 long[] 로 보관하고 이진 탐색으로 확인
+ * - 캐시에 없으면 사용자의 그룹 id 전체를 쿼리 한 번으로 적재
+ * - 멤버 구성이 바뀌면 GroupMembershipChangedEvent 로 해당 사용자 항목을 제거 (커밋 후)
+ * - 최대 개수를 넘으면 LRU 로 제거, ttl 이 지나면 다시 적재
+ * - 적중/실패 횟수는 group.membership.cache 지표(result=hit|miss)로 노출
+ */
+@Component
+@Slf4j
+public class GroupMembershipCache {
+
+  private final GroupMemberRepository groupMemberRepository;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final LinkedHashMap<Long, Entry> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  // 무효화가 일어날 때마다 증가, 적재 중에 무효화가 끼어들면 그 결과는 캐시하지 않음
+  private long invalidations;
+
+  @Autowired
+  public GroupMembershipCache(
+      GroupMemberRepository groupMemberRepository,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${membership-cache.max-size:10000}") int maxSize,
+      @Value("${membership-cache.ttl-seconds:600}") long ttlSeconds) {
+    this(groupMemberRepository, maxSize, ttlSeconds * 1000, Clock.systemUTC());
+    meterRegistry.ifAvailable(this::bindTo);
+  }
+
+  GroupMembershipCache(
+      GroupMemberRepository groupMemberRepository, int maxSize, long ttlMillis, Clock clock) {
+    this.groupMemberRepository = groupMemberRepository;
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > GroupMembershipCache.this.maxSize;
+          }
+        };
+  }
+
+  void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("group.membership.cache", hits, LongAdder::sum)
+        .tag("result", "hit")
+        .description("그룹 멤버십 캐시 적중 횟수")
+        .register(registry);
+    FunctionCounter.builder("group.membership.cache", misses, LongAdder::sum)
+        .tag("result", "miss")
+        .description("그룹 멤버십 캐시 실패 횟수")
+        .register(registry);
+    Gauge.builder("group.membership.cache.size", this, GroupMembershipCache::size)
+        .description("캐시된 사용자 수")
+        .register(registry);
+  }
+
+  public boolean isMember(Long groupId, Long userId) {
+    if (groupId == null || userId == null) {
+      return false;
+    }
+    long[] groupIds = groupIdsOf(userId);
+    return Arrays.binarySearch(groupIds, groupId) >= 0;
+  }
+
+  private long[] groupIdsOf(Long userId) {
+    long now = clock.millis();
+    long generation;
+    synchronized (entries) {
+      Entry entry = entries.get(userId);
+      if (entry != null && entry.expiresAt > now) {
+        hits.increment();
+        return entry.groupIds;
+      }
+      generation = invalidations;
+    }
+    misses.increment();
+
+    List<Long> loaded = groupMemberRepository.findActiveGroupIdsByUserId(userId);
+    long[] groupIds = loaded.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    synchronized (entries) {
+      if (generation == invalidations) {
+        entries.put(userId, new Entry(groupIds, now + ttlMillis));
+      }
+    }
+    return groupIds;
+  }
+
+  // 트랜잭션이 없으면 바로, 있으면 커밋 후 무효화
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onMembershipChanged(GroupMembershipChangedEvent event) {
+    synchronized (entries) {
+      invalidations++;
+      event.userIds().forEach(entries::remove);
+    }
+    log.debug("그룹 멤버십 캐시 무효화: groupId = {}, 사용자 수 = {}", event.groupId(), event.userIds().size());
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private record Entry(long[] groupIds, long expiresAt) {}
+}
@@ -0,0 +1,12 @@
+package goblin.app.Group.service;
+
+import java.util.Collection;
+import java.util.List;
+
+// 그룹 멤버 구성이 바뀌었음을 알리는 이벤트 (초대, 추방, 그룹 생성/삭제)
+public record GroupMembershipChangedEvent(Long groupId, Collection<Long> userIds) {
+
+  public static GroupMembershipChangedEvent of(Long groupId, Long userId) {
+    return new GroupMembershipChangedEvent(groupId, List.of(userId));
+  }
+}
@@ -4,16 +4,26 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import jakarta.transaction.Transactional;
-
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import goblin.app.Calendar.model.dto.request.uCalRequestDto;
 import goblin.app.Calendar.service.UserCalService;
@@ -45,6 +55,11 @@ public class GroupService {
 
   private final NotificationService notificationService;
   private final GroupHelper groupHelper;
+  private final OptimalTimeSlotMaintainer optimalTimeSlotMaintainer;
+  private final AvailabilitySweepLine availabilitySweepLine;
+  private final MeetingTimeRanker meetingTimeRanker;
+  private final GroupMembershipCache groupMembershipCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   // 그룹 생성
   @Transactional
@@ -76,6 +91,7 @@ public class GroupService {
     groupMember.setGroupId(group.getGroupId());
     groupMember.setRole("MASTER");
     groupMemberRepository.save(groupMember);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(group.getGroupId(), user.getId()));
 
     // 유저가 속한 기존 고정 일정 조회
     List<FixedSchedule> userFixedSchedules = fixedScheduleRepository.findByUser(user);
@@ -145,6 +161,7 @@ public class GroupService {
     groupMember.setGroupId(groupId);
     groupMember.setRole("MEMBER");
     groupMemberRepository.save(groupMember);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(groupId, user.getId()));
 
     log.info("멤버 초대 완료: 그룹ID - {}, 초대된 사용자 - {}", groupId, loginId);
   }
@@ -158,6 +175,7 @@ public class GroupService {
   }
 
   // 그룹 일정 등록 로직
+  @Transactional
   public void createGroupEvent(
       Long groupId, GroupCalendarRequestDTO request, String creatorLoginId) {
     User creator =
@@ -171,7 +189,7 @@ public class GroupService {
             .findById(groupId)
             .orElseThrow(() -> new RuntimeException("그룹을 찾을 수 없습니다: groupId=" + groupId));
 
-    if (!isUserInGroup(groupId, creatorLoginId)) {
+    if (!isUserInGroup(groupId, creator.getId())) {
       throw new RuntimeException("방장이 아닌 사용자는 일정을 생성할 수 없습니다.");
     }
 
@@ -199,36 +217,68 @@ public class GroupService {
     groupCalendar.setNote(request.getNote());
     groupCalendar.setCreatedDate(LocalDateTime.now());
     groupCalendar.setCreatedBy(creator); // 일정 생성자를 주최자로 설정
+    groupCalendar.setOptimalTimesMaintained(true); // 새 일정은 처음부터 증분 갱신
 
     groupCalendarRepository.save(groupCalendar);
 
-    // 주최자를 일정의 첫 번째 참가자로 등록
-    GroupCalendarParticipant creatorParticipant = new GroupCalendarParticipant();
-    creatorParticipant.setCalendarId(groupCalendar.getId());
-    creatorParticipant.setUser(creator);
-    groupCalendarParticipantRepository.save(creatorParticipant);
+    // 주최자를 첫 번째로, 나머지 참여자와 함께 한 번의 배치로 등록
+    Map<Long, User> participants = new LinkedHashMap<>();
+    participants.put(creator.getId(), creator);
+    resolveParticipants(groupId, request.getParticipants())
+        .forEach(user -> participants.putIfAbsent(user.getId(), user));
+    groupCalendarParticipantRepository.saveAll(
+        toParticipants(groupCalendar.getId(), participants.values()));
+
+    // 일정 등록 시 모든 사용자들에게 등록 알림
+    notificationService.eventCreatedNotify(groupCalendar.getId());
+
+    log.info("그룹 일정 등록 완료: 그룹ID = {}, 일정 제목 = {}", groupId, request.getTitle());
+  }
 
-    // 다른 참여자 등록
-    for (String loginId : request.getParticipants()) {
-      User user =
-          userRepository
-              .findByLoginId(loginId)
-              .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다: loginId=" + loginId));
+  /*
+   * 참여자 loginId 목록을 사용자로 변환 (사용자 조회 한 번 + 멤버 여부 조회 한 번)
+   * - 중복 loginId 는 한 번만 처리하고, 요청 순서를 유지
+   * - 없는 사용자나 그룹 멤버가 아닌 사용자가 있으면 예외
+   */
+  private List<User> resolveParticipants(Long groupId, Collection<String> loginIds) {
+    if (loginIds == null || loginIds.isEmpty()) {
+      return List.of();
+    }
+    Set<String> distinctLoginIds = new LinkedHashSet<>(loginIds);
+    Map<String, User> usersByLoginId =
+        userRepository.findAllByLoginIdIn(distinctLoginIds).stream()
+            .collect(Collectors.toMap(User::getLoginId, Function.identity()));
+
+    List<User> users = new ArrayList<>(distinctLoginIds.size());
+    for (String loginId : distinctLoginIds) {
+      User user = usersByLoginId.get(loginId);
+      if (user == null) {
+        throw new RuntimeException("유저를 찾을 수 없습니다: loginId=" + loginId);
+      }
+      users.add(user);
+    }
 
-      if (!isUserInGroup(groupId, loginId)) {
+    Set<Long> memberIds =
+        new HashSet<>(
+            groupMemberRepository.findMemberUserIds(
+                groupId, users.stream().map(User::getId).toList()));
+    for (User user : users) {
+      if (!memberIds.contains(user.getId())) {
         throw new RuntimeException("그룹 멤버가 아닌 사용자는 참여할 수 없습니다.");
       }
+    }
+    return users;
+  }
 
+  private List<GroupCalendarParticipant> toParticipants(Long calendarId, Collection<User> users) {
+    List<GroupCalendarParticipant> participants = new ArrayList<>(users.size());
+    for (User user : users) {
       GroupCalendarParticipant participant = new GroupCalendarParticipant();
-      participant.setCalendarId(groupCalendar.getId());
+      participant.setCalendarId(calendarId);
       participant.setUser(user);
-      groupCalendarParticipantRepository.save(participant);
+      participants.add(participant);
     }
-
-    // 일정 등록 시 모든 사용자들에게 등록 알림
-    notificationService.eventCreatedNotify(groupCalendar.getId());
-
-    log.info("그룹 일정 등록 완료: 그룹ID = {}, 일정 제목 = {}", groupId, request.getTitle());
+    return participants;
   }
 
   // 로컬타임으로 전환
@@ -252,6 +302,11 @@ public class GroupService {
     return groupMemberRepository.findByGroupIdAndUser(groupId, user).isPresent();
   }
 
+  // 인증된 사용자의 id 로 그룹 멤버 여부 확인 (멤버십 캐시, 삭제된 그룹은 제외)
+  public boolean isUserInGroup(Long groupId, Long userId) {
+    return groupMembershipCache.isMember(groupId, userId);
+  }
+
   // 메모 추가
   public void addMemo(Long calendarId, String memo) {
     GroupCalendar calendar =
@@ -356,20 +411,25 @@ public class GroupService {
 
     groupCalendarRepository.save(calendar);
 
-    // 일정에 참가자 재설정
-    groupCalendarParticipantRepository.deleteAllByCalendarId(calendarId);
-
-    for (String participantLoginId : request.getParticipants()) {
-      User participant =
-          userRepository
-              .findByLoginId(participantLoginId)
-              .orElseThrow(
-                  () -> new RuntimeException("유저를 찾을 수 없습니다: loginId = " + participantLoginId));
-      GroupCalendarParticipant calendarParticipant = new GroupCalendarParticipant();
-      calendarParticipant.setCalendarId(calendarId);
-      calendarParticipant.setUser(participant); // User 객체로 설정
-      groupCalendarParticipantRepository.save(calendarParticipant);
+    // 일정에 참가자 재설정 (빠진 참가자만 삭제, 새 참가자만 추가, 남은 참가자의 제출 여부는 유지)
+    Map<Long, User> requested = new LinkedHashMap<>();
+    resolveParticipants(calendar.getGroup().getGroupId(), request.getParticipants())
+        .forEach(user -> requested.put(user.getId(), user));
+    requested.putIfAbsent(calendar.getCreatedBy().getId(), calendar.getCreatedBy()); // 주최자는 항상 참가자
+
+    Set<Long> existingIds =
+        groupCalendarParticipantRepository.findAllByCalendarId(calendarId).stream()
+            .map(participant -> participant.getUser().getId())
+            .collect(Collectors.toSet());
+
+    List<Long> removedIds = existingIds.stream().filter(id -> !requested.containsKey(id)).toList();
+    List<User> added =
+        requested.values().stream().filter(user -> !existingIds.contains(user.getId())).toList();
+
+    if (!removedIds.isEmpty()) {
+      groupCalendarParticipantRepository.deleteAllByCalendarIdAndUserIdIn(calendarId, removedIds);
     }
+    groupCalendarParticipantRepository.saveAll(toParticipants(calendarId, added));
 
     log.info("일정이 수정되었습니다: calendarId = {}", calendarId);
   }
@@ -395,37 +455,84 @@ public class GroupService {
 
     // 멤버 삭제
     groupMemberRepository.delete(groupMember);
+    eventPublisher.publishEvent(
+        GroupMembershipChangedEvent.of(groupId, groupMember.getUser().getId()));
     log.info("그룹 멤버가 삭제되었습니다: loginId = {}, groupId = {}", memberLoginId, groupId);
   }
 
-  // 가능 시간 제출
-  @Transactional
+  // 가능 시간 제출 (다시 제출하면 이전 제출을 교체)
+  // - 같은 일정의 제출/최적 시간 갱신을 직렬화하기 위해 일정 행 잠금을 트랜잭션의 첫 쿼리로 잡음
+  // - READ_COMMITTED 로 읽어 잠금을 기다린 뒤에는 앞선 제출이 커밋한 가능 시간/최적 시간을 그대로 봄
+  //   (REPEATABLE READ 에서는 잠금 전에 한 조회로 스냅샷이 고정되어 앞선 제출을 못 보고 최적 시간이 겹치게 저장됨)
+  // - 끝이 시작보다 앞서거나 같은 슬롯(자정을 넘기는 슬롯 포함)은 IllegalArgumentException 으로 거절 (DB 조회 전에 검사)
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void setAvailableTime(Long calendarId, AvailableTimeRequestDTO request, String loginId) {
-    User user =
-        userRepository
-            .findByLoginId(loginId)
-            .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다: loginId = " + loginId));
-
+    // 제출된 슬롯을 검사하고 정렬 후 겹치거나 맞닿은 구간끼리 합침
+    List<AvailabilityIntervals.Interval> submitted = new ArrayList<>();
     for (AvailableTimeSlot slot : request.getAvailableTimeSlots()) {
-      // 시간 변환 로직 생략
       LocalTime startTime =
           convertToLocalTime(slot.getStartAmPm(), slot.getStartHour(), slot.getStartMinute());
       LocalTime endTime =
           convertToLocalTime(slot.getEndAmPm(), slot.getEndHour(), slot.getEndMinute());
+      submitted.add(
+          new AvailabilityIntervals.Interval(
+              LocalDateTime.of(slot.getDate(), startTime),
+              LocalDateTime.of(slot.getDate(), endTime)));
+    }
+    List<AvailabilityIntervals.Interval> intervals = AvailabilityIntervals.coalesce(submitted);
 
-      LocalDateTime startDateTime = LocalDateTime.of(slot.getDate(), startTime);
-      LocalDateTime endDateTime = LocalDateTime.of(slot.getDate(), endTime);
+    GroupCalendar calendar =
+        groupCalendarRepository
+            .findByIdForUpdate(calendarId)
+            .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다: calendarId=" + calendarId));
 
-      // 가능 시간 저장
-      AvailableTime availableTime = new AvailableTime();
-      availableTime.setUser(user);
-      availableTime.setCalendarId(calendarId);
-      availableTime.setStartTime(startDateTime);
-      availableTime.setEndTime(endDateTime);
-      availableTimeRepository.save(availableTime);
+    User user =
+        userRepository
+            .findByLoginId(loginId)
+            .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다: loginId = " + loginId));
 
-      log.info("참여자의 가능 시간 등록 완료: calendarId = {}, userId = {}", calendarId, user.getId());
+    // 이전 제출을 이번 제출로 교체 (delete 한 번 + 배치 insert 한 번), 내용이 같으면 건너뜀
+    List<AvailabilityIntervals.Interval> previous =
+        availableTimeRepository.findAllByCalendarIdAndUser(calendarId, user).stream()
+            .map(time -> new AvailabilityIntervals.Interval(time.getStartTime(), time.getEndTime()))
+            .toList();
+    if (!previous.equals(intervals)) {
+      if (!previous.isEmpty()) {
+        availableTimeRepository.deleteAllByCalendarIdAndUser(calendarId, user);
+      }
+      List<AvailableTime> availableTimes = new ArrayList<>(intervals.size());
+      for (AvailabilityIntervals.Interval interval : intervals) {
+        AvailableTime availableTime = new AvailableTime();
+        availableTime.setUser(user);
+        availableTime.setCalendarId(calendarId);
+        availableTime.setStartTime(interval.start());
+        availableTime.setEndTime(interval.end());
+        availableTimes.add(availableTime);
+      }
+      availableTimeRepository.saveAll(availableTimes);
+
+      // 이전 구간과 새 구간을 모두 덮는 범위의 최적 시간만 다시 계산
+      LocalDateTime dirtyFrom = null;
+      LocalDateTime dirtyTo = null;
+      for (AvailabilityIntervals.Interval interval :
+          Stream.concat(previous.stream(), intervals.stream()).toList()) {
+        if (dirtyFrom == null || interval.start().isBefore(dirtyFrom)) {
+          dirtyFrom = interval.start();
+        }
+        if (dirtyTo == null || interval.end().isAfter(dirtyTo)) {
+          dirtyTo = interval.end();
+        }
+      }
+      if (dirtyFrom != null) {
+        optimalTimeSlotMaintainer.refresh(calendar, dirtyFrom, dirtyTo);
+      }
     }
+    log.info(
+        "참여자의 가능 시간 등록 완료: calendarId = {}, userId = {}, 제출 {}개 -> 저장 {}개",
+        calendarId,
+        user.getId(),
+        submitted.size(),
+        intervals.size());
 
     // 제출 상태 업데이트
     GroupCalendarParticipant participant =
@@ -454,100 +561,55 @@ public class GroupService {
     return userCount >= totalUsers;
   }
 
-  // 최적 시간 계산 및 합병로직
-  private void mergeTimeSlots(TimeSlot existingSlot, TimeSlot newSlot) {
-    // 겹치는 시간을 계산
-    LocalDateTime maxStartTime =
-        existingSlot.getStartTime().isAfter(newSlot.getStartTime())
-            ? existingSlot.getStartTime()
-            : newSlot.getStartTime();
-
-    LocalDateTime minEndTime =
-        existingSlot.getEndTime().isBefore(newSlot.getEndTime())
-            ? existingSlot.getEndTime()
-            : newSlot.getEndTime();
-
-    // 겹치는 시간이 있으면 병합
-    if (maxStartTime.isBefore(minEndTime)) {
-      existingSlot.setStartTime(maxStartTime);
-      existingSlot.setEndTime(minEndTime);
-
-      // 새로운 참가자 추가
-      for (String participant : newSlot.getParticipants()) {
-        if (!existingSlot.getParticipants().contains(participant)) {
-          existingSlot.getParticipants().add(participant);
-        }
-      }
-    }
-  }
-
-  public List<TimeSlot> calculateOptimalTimesAndSave(Long calendarId) {
-    log.info("최적 시간 계산 및 저장 시작. calendarId: {}", calendarId);
-
-    // 1. 모든 참가자의 가능한 시간을 가져옴
-    List<AvailableTime> availableTimes = availableTimeRepository.findByCalendarId(calendarId);
-    log.info("조회된 AvailableTime 개수: {}", availableTimes.size());
-
-    // 2. 시간대 병합을 위한 리스트
-    List<TimeSlot> timeSlots = new ArrayList<>();
-
-    // 3. 참가자의 가능한 시간대를 TimeSlot으로 변환하고 병합
-    for (AvailableTime time : availableTimes) {
-      TimeSlot newSlot =
-          TimeSlot.builder()
-              .id(time.getId()) // 실제 ID를 저장
-              .startTime(time.getStartTime())
-              .endTime(time.getEndTime())
-              .participants(new ArrayList<>())
-              .build();
-
-      // 참가자를 추가 (loginId 대신 username을 사용)
-      newSlot.getParticipants().add(time.getUser().getUsername());
-
-      log.info("새로운 시간 슬롯 생성: {}", newSlot);
-
-      // 4. 기존 슬롯과 비교하여 병합할 수 있으면 병합, 아니면 새로운 슬롯으로 추가
-      boolean merged = false;
-      for (TimeSlot existingSlot : timeSlots) {
-        if (isOverlapping(existingSlot, newSlot)) {
-          mergeTimeSlots(existingSlot, newSlot); // 겹치는 시간 병합
-          merged = true;
-          log.info("슬롯 병합 완료: {}", existingSlot);
-          break;
-        }
-      }
+  // 최적 시간 조회 (가능 시간 제출 시 증분 갱신된 결과를 그대로 반환)
+  // 전체 재계산은 잠금 전에 읽은 일정 뒤에 일어나므로 READ_COMMITTED 로 잠금 이후 커밋된 제출까지 읽음
+  @Transactional(isolation = Isolation.READ_COMMITTED)
+  public List<TimeSlot> getOptimalTimes(Long calendarId) {
+    GroupCalendar calendar =
+        groupCalendarRepository
+            .findById(calendarId)
+            .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다: calendarId=" + calendarId));
 
-      if (!merged) {
-        timeSlots.add(newSlot);
-        log.info("새로운 슬롯 추가: {}", newSlot);
+    // 증분 갱신 이전에 만들어진 일정은 최초 1회만 전체 재계산
+    if (!calendar.isOptimalTimesMaintained()) {
+      calendar =
+          groupCalendarRepository
+              .findByIdForUpdate(calendarId)
+              .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다: calendarId=" + calendarId));
+      if (!calendar.isOptimalTimesMaintained()) {
+        optimalTimeSlotMaintainer.rebuild(calendar);
       }
     }
 
-    // 5. 두 명 이상의 참가자가 겹치는 시간대만 필터링
-    List<TimeSlot> filteredTimeSlots =
-        timeSlots.stream()
-            .filter(slot -> slot.getParticipants().size() >= 2) // 두 명 이상인 시간대만 필터링
-            .collect(Collectors.toList());
-
-    log.info("최적 시간 슬롯 개수 (두 명 이상 겹침): {}", filteredTimeSlots.size());
+    List<TimeSlot> slots = optimalTimeSlotMaintainer.read(calendarId);
+    log.info("최적 시간 조회: calendarId = {}, 구간 개수 = {}", calendarId, slots.size());
+    return slots;
+  }
 
-    // 6. 병합된 시간대 저장
-    for (TimeSlot slot : filteredTimeSlots) {
-      OptimalTimeSlot optimalSlot = new OptimalTimeSlot();
-      optimalSlot.setCalendarId(calendarId);
-      optimalSlot.setStartTime(slot.getStartTime());
-      optimalSlot.setEndTime(slot.getEndTime());
-      optimalSlot.setParticipants(slot.getParticipants()); // username 반환
-      optimalTimeSlotRepository.save(optimalSlot); // 저장 후 ID값 설정
+  // 예상 소요 시간(time)에 맞는 후보 시간 상위 k개 조회
+  @Transactional
+  public List<RankedTimeSlot> rankOptimalTimes(Long calendarId, int k) {
+    GroupCalendar calendar =
+        groupCalendarRepository
+            .findById(calendarId)
+            .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다: calendarId=" + calendarId));
 
-      slot.setId(optimalSlot.getId()); // 저장된 PK 값 가져오기
-      log.info("OptimalTimeSlot 저장 완료: {}", optimalSlot);
-    }
+    List<TimeSlot> segments =
+        availabilitySweepLine.sweep(availableTimeRepository.findByCalendarId(calendarId));
+    long totalParticipants = groupCalendarParticipantRepository.countUsersByCalendarId(calendarId);
 
-    return filteredTimeSlots;
+    List<RankedTimeSlot> ranked =
+        meetingTimeRanker.topK(segments, calendar.getTime(), k, totalParticipants);
+    log.info(
+        "후보 시간 순위 계산 완료: calendarId = {}, 소요 시간 = {}분, 후보 개수 = {}",
+        calendarId,
+        calendar.getTime(),
+        ranked.size());
+    return ranked;
   }
 
-  // 범위 내에서 사용자 지정 시간 확정
+  // 범위 내에서 사용자 지정 시간 확정 (확정 정보와 알림 요청을 함께 커밋)
+  @Transactional
   public void confirmCustomTimeInRange(
       Long calendarId, Long optimalTimeSlotId, ConfirmTimeRangeRequest request, String loginId) {
 
@@ -641,11 +703,6 @@ public class GroupService {
     log.info("개인 캘린더에 일정 저장 성공: loginId = {}, calendarId = {}", loginId, calendarId);
   }
 
-  private boolean isOverlapping(TimeSlot slot1, TimeSlot slot2) {
-    return slot1.getStartTime().isBefore(slot2.getEndTime())
-        && slot1.getEndTime().isAfter(slot2.getStartTime());
-  }
-
   private void saveToUserCalendar(
       GroupCalendar calendar,
       String loginId,
@@ -784,6 +841,49 @@ public class GroupService {
         .collect(Collectors.toList());
   }
 
+  // 격자 단위(granularity 분)로 정렬된 참가자별 가능 시간 조회 (저장된 행이 아니므로 id 없음)
+  @Transactional
+  public List<TimeSlot> getAvailableTimesForCalendar(Long calendarId, int granularity) {
+    AvailabilityGrid grid =
+        buildAvailabilityGrid(calendarId, granularity, time -> time.getUser().getLoginId());
+
+    List<TimeSlot> slots = new ArrayList<>();
+    for (String loginId : grid.participants()) {
+      slots.addAll(grid.runsOf(loginId));
+    }
+    return slots;
+  }
+
+  // 격자 기반 최적 시간 계산 (두 명 이상 겹치는 구간, 조회 전용이라 저장하지 않음)
+  @Transactional
+  public List<TimeSlot> calculateOptimalTimesOnGrid(Long calendarId, int granularity) {
+    AvailabilityGrid grid =
+        buildAvailabilityGrid(calendarId, granularity, time -> time.getUser().getUsername());
+    List<TimeSlot> slots = grid.commonSlots(2);
+    log.info(
+        "격자 기반 최적 시간 계산 완료: calendarId = {}, granularity = {}, 셀 개수 = {}, 구간 개수 = {}",
+        calendarId,
+        granularity,
+        grid.cellCount(),
+        slots.size());
+    return slots;
+  }
+
+  // 일정의 선택 날짜/시간 범위로 격자를 만들고 제출된 가능 시간을 표시
+  private AvailabilityGrid buildAvailabilityGrid(
+      Long calendarId, int granularity, Function<AvailableTime, String> participantOf) {
+    GroupCalendar calendar =
+        groupCalendarRepository
+            .findById(calendarId)
+            .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다: calendarId=" + calendarId));
+
+    AvailabilityGrid grid = AvailabilityGrid.of(calendar, granularity);
+    for (AvailableTime time : availableTimeRepository.findAllByCalendarId(calendarId)) {
+      grid.mark(participantOf.apply(time), time.getStartTime(), time.getEndTime());
+    }
+    return grid;
+  }
+
   // 확정되지 않은 일정 calendarId로 조회
   @Transactional
   public GroupCalendarResponseDTO getCalendar(Long calendarId) {
@@ -820,8 +920,12 @@ public class GroupService {
             .orElseThrow(() -> new RuntimeException("그룹을 찾을 수 없습니다: groupId=" + groupId));
 
     // 해당 그룹의 특정 연월에 속하는 확정된 일정 조회
+    if (month < 1 || month > 12) {
+      return new ArrayList<>(); // 존재하지 않는 월
+    }
+    LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
     List<GroupConfirmedCalendar> calendars =
-        groupConfirmedCalendarRepository.findAllByGroupIdAndMonth(groupId, year, month);
+        groupConfirmedCalendarRepository.findOverlapping(groupId, from, from.plusMonths(1));
 
     // GroupConfirmedCalendarDTO 리스트로 변환하여 반환
     return calendars.stream().map(GroupConfirmedCalendarDTO::new).collect(Collectors.toList());
@@ -855,8 +959,12 @@ public class GroupService {
             .orElseThrow(() -> new RuntimeException("그룹을 찾을 수 없습니다: groupId=" + groupId));
 
     // 해당 그룹의 특정 날짜에 속하는 확정된 일정 조회
+    if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+      return new ArrayList<>(); // 존재하지 않는 날짜
+    }
+    LocalDateTime from = LocalDate.of(year, month, day).atStartOfDay();
     List<GroupConfirmedCalendar> calendars =
-        groupConfirmedCalendarRepository.findAllByGroupIdAndDay(groupId, year, month, day);
+        groupConfirmedCalendarRepository.findOverlapping(groupId, from, from.plusDays(1));
 
     // GroupConfirmedCalendarDTO 리스트로 변환하여 반환
     return calendars.stream().map(GroupConfirmedCalendarDTO::new).collect(Collectors.toList());
@@ -889,6 +997,9 @@ public class GroupService {
     // 그룹도 soft delete 처리
     group.setDeleted(true);
     groupRepository.save(group);
+    eventPublisher.publishEvent(
+        new GroupMembershipChangedEvent(
+            groupId, groupMemberRepository.findUserIdsByGroupId(groupId)));
     log.info("일정이 삭제되었습니다");
   }
 }
@@ -0,0 +1,194 @@
+package goblin.app.Group.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+
+import goblin.app.Group.model.dto.RankedTimeSlot;
+import goblin.app.Group.model.dto.TimeSlot;
+
+/*
+ * 예상 소요 시간(GroupCalendar.time)에 딱 맞는 후보 시간 상위 K개 검색
+ * - 후보 시작 시각: 스윕 구간의 시작, 그리고 (구간 끝 - 소요 시간)
+ *   (창 안 참가자 집합은 이 두 종류의 지점에서만 바뀌므로 이것만 보면 충분)
+ * - 순위: 가능 인원 많은 순 -> 날짜 이른 순 -> 앞뒤 여유 시간 많은 순 -> 시작 시각 이른 순
+ * - 후보 시작 시각은 정렬된 두 줄기를 합치며 하나씩 만들고, 크기 K 의 힙(가장 나쁜 후보가 head)만 유지
+ *   => 구간 목록 외에 추가로 쓰는 메모리는 O(K)
+ * - 같은 참가자 집합으로 겹치는 후보는 더 좋은 하나만 남김
+ */
+@Component
+public class MeetingTimeRanker {
+
+  private static final Comparator<Candidate> RANKING =
+      Comparator.comparingInt((Candidate c) -> c.participants.size())
+          .reversed()
+          .thenComparing(c -> c.start.toLocalDate())
+          .thenComparing(Comparator.comparingLong((Candidate c) -> c.slackMinutes).reversed())
+          .thenComparing(c -> c.start);
+
+  /**
+   * @param segments 스윕 라인 결과 (시작 시각 순, 서로 겹치지 않음)
+   * @param durationMinutes 찾을 창의 길이 (분)
+   * @param k 반환할 후보 수
+   * @param totalParticipants 점수 계산용 일정 참가자 수
+   */
+  public List<RankedTimeSlot> topK(
+      List<TimeSlot> segments, int durationMinutes, int k, long totalParticipants) {
+    if (durationMinutes <= 0 || k <= 0 || segments.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, RANKING.reversed());
+    int first = 0;
+    // 구간 시작 줄기와 (구간 끝 - 소요 시간) 줄기는 각각 이미 정렬되어 있으므로 두 포인터로 합치며 하나씩 꺼냄
+    int nextStart = 0;
+    int nextEnd = 0;
+    LocalDateTime previous = null;
+    while (nextStart < segments.size() || nextEnd < segments.size()) {
+      LocalDateTime fromStart =
+          nextStart < segments.size() ? segments.get(nextStart).getStartTime() : null;
+      LocalDateTime fromEnd =
+          nextEnd < segments.size()
+              ? segments.get(nextEnd).getEndTime().minusMinutes(durationMinutes)
+              : null;
+      LocalDateTime start;
+      if (fromEnd == null || (fromStart != null && !fromStart.isAfter(fromEnd))) {
+        start = fromStart;
+        nextStart++;
+      } else {
+        start = fromEnd;
+        nextEnd++;
+      }
+      if (start.equals(previous)) {
+        continue; // 두 줄기에서 같은 시각이 나오면 한 번만 평가
+      }
+      previous = start;
+
+      // start 를 포함하는 첫 구간으로 이동 (후보 시작 시각은 증가하므로 포인터는 되돌아가지 않음)
+      while (first < segments.size() && !segments.get(first).getEndTime().isAfter(start)) {
+        first++;
+      }
+      if (first == segments.size()) {
+        break;
+      }
+      Candidate candidate = evaluate(segments, first, start, durationMinutes);
+      if (candidate != null) {
+        offer(heap, candidate, k);
+      }
+    }
+
+    List<Candidate> best = new ArrayList<>(heap);
+    best.sort(RANKING);
+    List<RankedTimeSlot> result = new ArrayList<>(best.size());
+    for (int i = 0; i < best.size(); i++) {
+      Candidate candidate = best.get(i);
+      result.add(
+          RankedTimeSlot.builder()
+              .startTime(candidate.start)
+              .endTime(candidate.start.plusMinutes(durationMinutes))
+              .participants(new ArrayList<>(candidate.participants))
+              .rank(i + 1)
+              .score(
+                  totalParticipants > 0
+                      ? (double) candidate.participants.size() / totalParticipants
+                      : 0)
+              .slackMinutes(candidate.slackMinutes)
+              .build());
+    }
+    return result;
+  }
+
+  // [start, start + duration) 내내 가능한 참가자 집합과 앞뒤 여유 시간 계산
+  private Candidate evaluate(
+      List<TimeSlot> segments, int first, LocalDateTime start, int durationMinutes) {
+    LocalDateTime end = start.plusMinutes(durationMinutes);
+    if (segments.get(first).getStartTime().isAfter(start)) {
+      return null; // 시작 시각에 아무도 가능하지 않음
+    }
+
+    Set<String> participants = new TreeSet<>(segments.get(first).getParticipants());
+    int last = first;
+    while (segments.get(last).getEndTime().isBefore(end)) {
+      if (last + 1 == segments.size()
+          || !segments.get(last + 1).getStartTime().equals(segments.get(last).getEndTime())) {
+        return null; // 창 중간에 빈 시간이 있음
+      }
+      last++;
+      participants.retainAll(segments.get(last).getParticipants());
+      if (participants.isEmpty()) {
+        return null;
+      }
+    }
+
+    // 창 앞뒤로 같은 참가자들이 계속 가능한 시간
+    LocalDateTime before = segments.get(first).getStartTime();
+    for (int i = first - 1;
+        i >= 0
+            && segments.get(i).getEndTime().equals(before)
+            && segments.get(i).getParticipants().containsAll(participants);
+        i--) {
+      before = segments.get(i).getStartTime();
+    }
+    LocalDateTime after = segments.get(last).getEndTime();
+    for (int i = last + 1;
+        i < segments.size()
+            && segments.get(i).getStartTime().equals(after)
+            && segments.get(i).getParticipants().containsAll(participants);
+        i++) {
+      after = segments.get(i).getEndTime();
+    }
+    long slack =
+        Duration.between(before, start).toMinutes() + Duration.between(end, after).toMinutes();
+
+    return new Candidate(start, end, participants, slack);
+  }
+
+  private void offer(PriorityQueue<Candidate> heap, Candidate candidate, int k) {
+    // 같은 집합으로 겹치는 후보가 이미 있으면 더 좋은 쪽만 유지
+    Iterator<Candidate> iterator = heap.iterator();
+    while (iterator.hasNext()) {
+      Candidate existing = iterator.next();
+      if (existing.overlaps(candidate) && existing.participants.equals(candidate.participants)) {
+        if (RANKING.compare(candidate, existing) >= 0) {
+          return;
+        }
+        iterator.remove();
+        break;
+      }
+    }
+
+    if (heap.size() < k) {
+      heap.add(candidate);
+    } else if (RANKING.compare(candidate, heap.peek()) < 0) {
+      heap.poll();
+      heap.add(candidate);
+    }
+  }
+
+  private static final class Candidate {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Set<String> participants;
+    private final long slackMinutes;
+
+    private Candidate(
+        LocalDateTime start, LocalDateTime end, Set<String> participants, long slackMinutes) {
+      this.start = start;
+      this.end = end;
+      this.participants = new TreeSet<>(participants);
+      this.slackMinutes = slackMinutes;
+    }
+
+    private boolean overlaps(Candidate other) {
+      return start.isBefore(other.end) && other.start.isBefore(end);
+    }
+  }
+}
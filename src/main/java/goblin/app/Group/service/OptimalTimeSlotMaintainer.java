@@ -0,0 +1,181 @@
+package goblin.app.Group.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.GroupCalendar;
+import goblin.app.Group.model.entity.OptimalTimeSlot;
+import goblin.app.Group.repository.AvailableTimeRepository;
+import goblin.app.Group.repository.OptimalTimeSlotRepository;
+
+/*
+ * 일정별 최적 시간(OptimalTimeSlot) 증분 유지
+ * - 가능 시간이 제출되면 바뀐 구간 [from, to) 안쪽만 스윕 라인으로 다시 계산
+ * - 구간에 걸친 기존 행은 바깥쪽 부분만 남기고, 경계에서 참가자 집합이 같으면 이어 붙임
+ * - 조회는 저장된 행을 그대로 반환하므로 반복 조회해도 새 행이 생기지 않음
+ * 호출하는 쪽에서 트랜잭션과 일정 행 잠금(findByIdForUpdate)을 잡고 호출해야 함
+ * - 트랜잭션은 READ_COMMITTED 이거나 잠금이 첫 조회여야 함 (잠금 전 조회로 고정된 스냅샷에서는 앞선 제출이 안 보임)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimalTimeSlotMaintainer {
+
+  // 최적 시간으로 인정하는 최소 참가자 수
+  private static final int MIN_PARTICIPANTS = 2;
+
+  private final AvailableTimeRepository availableTimeRepository;
+  private final OptimalTimeSlotRepository optimalTimeSlotRepository;
+  private final AvailabilitySweepLine availabilitySweepLine;
+
+  // 저장된 최적 시간 조회 (시작 시간 순)
+  public List<TimeSlot> read(Long calendarId) {
+    List<TimeSlot> slots = new ArrayList<>();
+    for (OptimalTimeSlot row :
+        optimalTimeSlotRepository.findByCalendarIdOrderByStartTimeAsc(calendarId)) {
+      slots.add(
+          TimeSlot.builder()
+              .id(row.getId())
+              .startTime(row.getStartTime())
+              .endTime(row.getEndTime())
+              .participants(new ArrayList<>(row.getParticipants()))
+              .build());
+    }
+    return slots;
+  }
+
+  // 일정 전체 재계산 (기존 행 삭제 후 다시 저장), 이후부터는 증분 갱신
+  public void rebuild(GroupCalendar calendar) {
+    Long calendarId = calendar.getId();
+    optimalTimeSlotRepository.deleteAll(
+        optimalTimeSlotRepository.findByCalendarIdOrderByStartTimeAsc(calendarId));
+
+    List<OptimalTimeSlot> rows = new ArrayList<>();
+    for (TimeSlot slot :
+        availabilitySweepLine.sweep(availableTimeRepository.findByCalendarId(calendarId))) {
+      if (slot.getParticipants().size() >= MIN_PARTICIPANTS) {
+        rows.add(
+            newRow(calendarId, slot.getStartTime(), slot.getEndTime(), slot.getParticipants()));
+      }
+    }
+    optimalTimeSlotRepository.saveAll(rows);
+
+    calendar.setOptimalTimesMaintained(true);
+    log.info("최적 시간 전체 재계산 완료: calendarId = {}, 구간 개수 = {}", calendarId, rows.size());
+  }
+
+  // [from, to) 구간의 가능 시간이 바뀐 뒤 호출
+  public void refresh(GroupCalendar calendar, LocalDateTime from, LocalDateTime to) {
+    if (!calendar.isOptimalTimesMaintained()) {
+      rebuild(calendar);
+      return;
+    }
+    if (!from.isBefore(to)) {
+      return;
+    }
+    Long calendarId = calendar.getId();
+
+    // 1. 구간에 걸친 기존 행은 바깥쪽 부분만 남김 (행 안에서는 참가자 집합이 같으므로 잘라도 유효)
+    List<OptimalTimeSlot> dirty = new ArrayList<>();
+    OptimalTimeSlot left = null;
+    OptimalTimeSlot right = null;
+    for (OptimalTimeSlot row : optimalTimeSlotRepository.findTouchingRange(calendarId, from, to)) {
+      boolean hasLeft = row.getStartTime().isBefore(from);
+      boolean hasRight = row.getEndTime().isAfter(to);
+      if (row.getEndTime().isAfter(from) && row.getStartTime().isBefore(to)) {
+        if (hasLeft && hasRight) {
+          right = newRow(calendarId, to, row.getEndTime(), row.getParticipants());
+          row.setEndTime(from);
+          left = row;
+          dirty.add(row);
+          dirty.add(right);
+        } else if (hasLeft) {
+          row.setEndTime(from);
+          left = row;
+          dirty.add(row);
+        } else if (hasRight) {
+          row.setStartTime(to);
+          right = row;
+          dirty.add(row);
+        } else {
+          optimalTimeSlotRepository.delete(row);
+        }
+      } else if (row.getEndTime().equals(from)) {
+        left = row;
+      } else if (row.getStartTime().equals(to)) {
+        right = row;
+      }
+    }
+
+    // 2. 구간 안쪽만 다시 스윕
+    List<TimeSlot> fresh =
+        availabilitySweepLine.sweep(
+            availableTimeRepository.findOverlapping(calendarId, from, to),
+            time -> time.getStartTime().isBefore(from) ? from : time.getStartTime(),
+            time -> time.getEndTime().isAfter(to) ? to : time.getEndTime(),
+            time -> time.getUser().getUsername());
+
+    // 3. 경계에서 참가자 집합이 같은 행끼리 이어 붙이며 저장 대상 구성
+    OptimalTimeSlot current = left;
+    for (TimeSlot slot : fresh) {
+      if (slot.getParticipants().size() < MIN_PARTICIPANTS) {
+        continue;
+      }
+      if (current != null
+          && current.getEndTime().equals(slot.getStartTime())
+          && sameParticipants(current.getParticipants(), slot.getParticipants())) {
+        current.setEndTime(slot.getEndTime());
+      } else {
+        current =
+            newRow(calendarId, slot.getStartTime(), slot.getEndTime(), slot.getParticipants());
+      }
+      if (!dirty.contains(current)) {
+        dirty.add(current);
+      }
+    }
+    if (current != null
+        && right != null
+        && current != right
+        && current.getEndTime().equals(right.getStartTime())
+        && sameParticipants(current.getParticipants(), right.getParticipants())) {
+      current.setEndTime(right.getEndTime());
+      if (!dirty.contains(current)) {
+        dirty.add(current);
+      }
+      dirty.remove(right);
+      if (right.getId() != null) {
+        optimalTimeSlotRepository.delete(right);
+      }
+    }
+
+    optimalTimeSlotRepository.saveAll(dirty);
+    log.info(
+        "최적 시간 증분 갱신 완료: calendarId = {}, 구간 = [{}, {}), 갱신 행 = {}",
+        calendarId,
+        from,
+        to,
+        dirty.size());
+  }
+
+  private OptimalTimeSlot newRow(
+      Long calendarId, LocalDateTime start, LocalDateTime end, List<String> participants) {
+    OptimalTimeSlot row = new OptimalTimeSlot();
+    row.setCalendarId(calendarId);
+    row.setStartTime(start);
+    row.setEndTime(end);
+    row.setParticipants(new ArrayList<>(participants));
+    return row;
+  }
+
+  private boolean sameParticipants(List<String> a, List<String> b) {
+    return a.size() == b.size() && new HashSet<>(a).equals(new HashSet<>(b));
+  }
+}
@@ -0,0 +1,68 @@
+package goblin.app.Notification.controller;
+
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import goblin.app.Common.auth.LoginUser;
+import goblin.app.Notification.model.dto.NotificationInboxDto;
+import goblin.app.Notification.model.dto.NotificationReadRequestDto;
+import goblin.app.Notification.model.dto.NotificationReadResponseDto;
+import goblin.app.Notification.service.NotificationInboxService;
+import goblin.app.User.model.dto.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "알림")
+public class NotificationController {
+
+  private final NotificationInboxService notificationInboxService;
+
+  // 수신함 조회 (키셋 페이지네이션)
+  @Operation(
+      summary = "알림 수신함 조회",
+      description = "최신 알림부터 size 개 조회, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지 조회")
+  @GetMapping
+  public ResponseEntity<NotificationInboxDto> getInbox(
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(required = false) Integer size,
+      @LoginUser AuthenticatedUser loginUser) {
+    return ResponseEntity.ok(notificationInboxService.getInbox(loginUser.getId(), cursor, size));
+  }
+
+  @Operation(summary = "읽지 않은 알림 수", description = "배지 표시용 읽지 않은 알림 수 조회")
+  @GetMapping("/unread-count")
+  public ResponseEntity<Map<String, Long>> getUnreadCount(@LoginUser AuthenticatedUser loginUser) {
+    return ResponseEntity.ok(
+        Map.of("unreadCount", notificationInboxService.unreadCount(loginUser.getId())));
+  }
+
+  @Operation(summary = "알림 읽음 처리", description = "지정한 알림들을 읽음 처리")
+  @PatchMapping("/read")
+  public ResponseEntity<NotificationReadResponseDto> markRead(
+      @RequestBody NotificationReadRequestDto request, @LoginUser AuthenticatedUser loginUser) {
+    int updated =
+        notificationInboxService.markRead(loginUser.getId(), request.getNotificationIds());
+    return ResponseEntity.ok(
+        new NotificationReadResponseDto(
+            updated, notificationInboxService.unreadCount(loginUser.getId())));
+  }
+
+  @Operation(summary = "알림 모두 읽음 처리", description = "읽지 않은 알림을 모두 읽음 처리")
+  @PatchMapping("/read-all")
+  public ResponseEntity<NotificationReadResponseDto> markAllRead(
+      @LoginUser AuthenticatedUser loginUser) {
+    int updated = notificationInboxService.markAllRead(loginUser.getId());
+    return ResponseEntity.ok(
+        new NotificationReadResponseDto(
+            updated, notificationInboxService.unreadCount(loginUser.getId())));
+  }
+}
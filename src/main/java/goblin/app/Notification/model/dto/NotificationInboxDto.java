@@ -0,0 +1,17 @@
+package goblin.app.Notification.model.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 수신함 한 페이지 (nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회)
+@Getter
+@AllArgsConstructor
+public class NotificationInboxDto {
+
+  private List<NotificationResponseDto> notifications; // 최신순
+  private Long nextCursor; // 다음 페이지가 없으면 null
+  private boolean hasNext;
+  private long unreadCount;
+}
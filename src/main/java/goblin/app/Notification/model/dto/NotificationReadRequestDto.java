@@ -0,0 +1,13 @@
+package goblin.app.Notification.model.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class NotificationReadRequestDto {
+
+  private List<Long> notificationIds; // 읽음 처리할 알림 id
+}
@@ -0,0 +1,12 @@
+package goblin.app.Notification.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationReadResponseDto {
+
+  private int updated; // 새로 읽음 처리된 알림 수
+  private long unreadCount; // 처리 후 읽지 않은 알림 수
+}
@@ -9,6 +9,7 @@ import goblin.app.Notification.model.entity.Notification;
 public class NotificationResponseDto {
 
   private Long id;
+  private Long deliverySeq;
   private String msgTitle;
   private String eventName;
   private String details1;
@@ -16,9 +17,11 @@ public class NotificationResponseDto {
   private String type;
   private Long calendarId;
   private Long groupId;
+  private Boolean isRead;
 
   public NotificationResponseDto(Notification notification) {
     this.id = notification.getId();
+    this.deliverySeq = notification.getDeliverySeq();
     this.msgTitle = notification.getMsgTitle();
     this.eventName = notification.getEventName();
     this.details1 = notification.getDetails1();
@@ -26,5 +29,6 @@ public class NotificationResponseDto {
     this.type = notification.getType().name();
     this.calendarId = notification.getCalendarId();
     this.groupId = notification.getGroupId();
+    this.isRead = notification.getIsRead();
   }
 }
@@ -1,28 +1,73 @@
 package goblin.app.Notification.model.entity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import lombok.RequiredArgsConstructor;
-
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/*
+ * 사용자별 SSE 구독 목록 (기기마다 emitter 하나)
+ * - 목록은 구독 순서로 유지하는 CopyOnWriteArrayList, 전송 쪽은 잠금 없이 순회
+ * - 변경은 드물고(구독/해제) 순회는 잦으므로 쓰기 시 복사 비용은 문제되지 않음
+ * - 사용자당 최대 maxDevicesPerUser 개, 넘치면 가장 오래 전에 연결된 emitter 부터 내보냄
+ */
 @Repository
-@RequiredArgsConstructor
 public class EmitterRepository {
 
-  private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+  private final Map<Long, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  private final int maxDevicesPerUser;
+
+  public EmitterRepository(@Value("${sse.max-devices-per-user:5}") int maxDevicesPerUser) {
+    if (maxDevicesPerUser < 1) {
+      throw new IllegalArgumentException("사용자당 구독 수는 1 이상이어야 합니다: " + maxDevicesPerUser);
+    }
+    this.maxDevicesPerUser = maxDevicesPerUser;
+  }
 
-  public void save(Long id, SseEmitter emitter) {
-    emitters.put(id, emitter);
+  // 새 구독을 추가하고, 한도를 넘어 밀려난 emitter 목록을 반환 (호출한 쪽에서 완료 처리)
+  public List<SseEmitter> save(Long userId, SseEmitter emitter) {
+    List<SseEmitter> evicted = new ArrayList<>();
+    emitters.compute(
+        userId,
+        (id, devices) -> {
+          CopyOnWriteArrayList<SseEmitter> list =
+              devices == null ? new CopyOnWriteArrayList<>() : devices;
+          list.add(emitter);
+          while (list.size() > maxDevicesPerUser) {
+            evicted.add(list.remove(0));
+          }
+          return list;
+        });
+    return evicted;
   }
 
   public void deleteById(Long userId) {
     emitters.remove(userId);
   }
 
-  public SseEmitter get(Long userId) {
-    return emitters.get(userId);
+  // 지정한 emitter 만 제거 (같은 사용자의 다른 기기 구독은 유지)
+  public void deleteById(Long userId, SseEmitter emitter) {
+    emitters.computeIfPresent(
+        userId,
+        (id, devices) -> {
+          devices.remove(emitter);
+          return devices.isEmpty() ? null : devices;
+        });
+  }
+
+  // 이 노드에 구독 중인 기기가 하나라도 있는지
+  public boolean existsByUserId(Long userId) {
+    return emitters.containsKey(userId);
+  }
+
+  // 사용자의 모든 기기 구독 (순회 중 변경되어도 안전한 읽기 전용 목록, 없으면 빈 목록)
+  public List<SseEmitter> findAllByUserId(Long userId) {
+    List<SseEmitter> devices = emitters.get(userId);
+    return devices == null ? List.of() : List.copyOf(devices);
   }
 }
@@ -1,18 +1,34 @@
 package goblin.app.Notification.model.entity;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import jakarta.persistence.*;
 
+import goblin.app.Common.config.IdSequence;
 import goblin.app.User.model.entity.User;
 
 @Entity
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "notification",
+    // 수신함(역순)과 재연결 시 놓친 알림(정순) 키셋 조회 (receiver_id 로 좁히고 delivery_seq 로 이어서 읽음)
+    indexes =
+        @Index(name = "idx_notification_receiver_seq", columnList = "receiver_id, delivery_seq"))
 public class Notification {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+  @TableGenerator(
+      name = "notification_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "notification",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
   @Column(name = "notification_id")
   private Long id;
 
@@ -35,10 +51,17 @@ public class Notification {
   @Column(name = "is_deleted", nullable = false)
   private Boolean isDeleted = false;
 
+  @Column(name = "is_read", nullable = false)
+  private Boolean isRead = false;
+
   Long calendarId;
 
   Long groupId;
 
+  // 수신자별 전달 순번 (SSE 이벤트 id, NotificationDeliverySequence 가 저장 직전에 매김)
+  @Column(name = "delivery_seq")
+  private Long deliverySeq;
+
   @Builder
   public Notification(
       Long id,
@@ -60,4 +83,8 @@ public class Notification {
     this.calendarId = calendarId;
     this.groupId = groupId;
   }
+
+  public void assignDeliverySeq(long deliverySeq) {
+    this.deliverySeq = deliverySeq;
+  }
 }
@@ -0,0 +1,46 @@
+package goblin.app.Notification.model.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+import goblin.app.Common.config.IdSequence;
+
+// 노드 간 알림 전달용 행 (모든 노드가 폴링해 자기에게 연결된 구독자에게 전송, 보존 기간이 지나면 삭제)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    name = "notification_broadcast",
+    indexes = @Index(name = "idx_notification_broadcast_created", columnList = "created_at"))
+public class NotificationBroadcast {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_broadcast_id")
+  @TableGenerator(
+      name = "notification_broadcast_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "notification_broadcast",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long notificationId;
+
+  @Column(nullable = false)
+  private Long receiverId;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  public NotificationBroadcast(Long notificationId, Long receiverId, LocalDateTime createdAt) {
+    this.notificationId = notificationId;
+    this.receiverId = receiverId;
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,23 @@
+package goblin.app.Notification.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationBroadcastRepository
+    extends JpaRepository<NotificationBroadcast, Long> {
+
+  // since 이후에 기록된 전달 행 (생성 시각 순)
+  List<NotificationBroadcast> findAllByCreatedAtGreaterThanEqualOrderByCreatedAt(
+      LocalDateTime since, Limit limit);
+
+  // 보존 기간이 지난 행을 delete 한 번으로 삭제
+  @Modifying
+  @Query("DELETE FROM NotificationBroadcast b WHERE b.createdAt < :cutoff")
+  int deleteAllCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
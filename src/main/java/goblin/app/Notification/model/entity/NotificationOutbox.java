@@ -0,0 +1,72 @@
+package goblin.app.Notification.model.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.persistence.*;
+
+import goblin.app.Common.config.IdSequence;
+
+// 아직 처리되지 않은 알림 요청 (도메인 변경과 같은 트랜잭션에서 기록, 처리되면 삭제)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(
+    name = "notification_outbox",
+    indexes =
+        @Index(
+            name = "idx_notification_outbox_status_available",
+            columnList = "status, available_at"))
+public class NotificationOutbox {
+
+  public enum Status {
+    PENDING, // 처리 대기 (available_at 이후 가져갈 수 있음)
+    FAILED // 재시도 횟수 초과
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_outbox_id")
+  @TableGenerator(
+      name = "notification_outbox_id",
+      table = IdSequence.TABLE,
+      pkColumnName = IdSequence.NAME_COLUMN,
+      valueColumnName = IdSequence.VALUE_COLUMN,
+      pkColumnValue = "notification_outbox",
+      allocationSize = IdSequence.ALLOCATION_SIZE)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private NotificationType type;
+
+  @Column(nullable = false)
+  private Long calendarId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Status status = Status.PENDING;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  // 이 시각 이후에 가져갈 수 있음 (가져간 뒤에는 처리 제한 시간, 실패 후에는 재시도 시각)
+  @Column(nullable = false)
+  private LocalDateTime availableAt;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(length = 500)
+  private String lastError;
+
+  public NotificationOutbox(NotificationType type, Long calendarId, LocalDateTime now) {
+    this.type = type;
+    this.calendarId = calendarId;
+    this.availableAt = now;
+    this.createdAt = now;
+  }
+}
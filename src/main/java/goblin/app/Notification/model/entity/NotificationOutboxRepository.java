@@ -0,0 +1,35 @@
+package goblin.app.Notification.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  // 처리할 수 있는 요청을 잠그면서 가져옴, 다른 노드가 잠근 행은 건너뜀 (MySQL 8 SKIP LOCKED)
+  // minAttempts 가 1 이면 재시도 요청만 가져옴
+  @Query(
+      value =
+          "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND available_at <= :now"
+              + " AND attempts >= :minAttempts ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<NotificationOutbox> lockAvailable(
+      @Param("now") LocalDateTime now,
+      @Param("minAttempts") int minAttempts,
+      @Param("limit") int limit);
+
+  // 첫 시도를 기다리는 요청들의 가장 이른/늦은 요청 시각 (요청이 없으면 둘 다 null)
+  @Query(
+      "SELECT MIN(o.createdAt) AS firstRequestedAt, MAX(o.createdAt) AS lastRequestedAt"
+          + " FROM NotificationOutbox o WHERE o.status = :status AND o.attempts = 0")
+  PendingBurst findPendingBurst(@Param("status") NotificationOutbox.Status status);
+
+  interface PendingBurst {
+    LocalDateTime getFirstRequestedAt();
+
+    LocalDateTime getLastRequestedAt();
+  }
+}
@@ -1,5 +1,62 @@
 package goblin.app.Notification.model.entity;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+  // 재연결 시 놓친 알림 (afterSeq 다음부터 전달 순번 순, 키셋 조회)
+  @Query(
+      "SELECT n FROM Notification n WHERE n.user.id = :userId AND n.deliverySeq > :afterSeq"
+          + " AND n.isDeleted = :deleted ORDER BY n.deliverySeq")
+  List<Notification> findAfter(
+      @Param("userId") Long userId,
+      @Param("afterSeq") Long afterSeq,
+      @Param("deleted") Boolean deleted,
+      Limit limit);
+
+  // 사용자가 받은 마지막 전달 순번 (없으면 null)
+  @Query("SELECT MAX(n.deliverySeq) FROM Notification n WHERE n.user.id = :userId")
+  Long findLastDeliverySeq(@Param("userId") Long userId);
+
+  // 수신함 (beforeSeq 보다 작은 전달 순번부터 최신순, 키셋 조회)
+  @Query(
+      "SELECT n FROM Notification n WHERE n.user.id = :userId AND n.deliverySeq < :beforeSeq"
+          + " AND n.isDeleted = :deleted ORDER BY n.deliverySeq DESC")
+  List<Notification> findInbox(
+      @Param("userId") Long userId,
+      @Param("beforeSeq") Long beforeSeq,
+      @Param("deleted") Boolean deleted,
+      Limit limit);
+
+  @Query(
+      "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = :read"
+          + " AND n.isDeleted = :deleted")
+  long countByRead(
+      @Param("userId") Long userId, @Param("read") Boolean read, @Param("deleted") Boolean deleted);
+
+  // 지정한 알림 중 아직 읽지 않은 것만 update 한 번으로 읽음 처리하고 바뀐 행 수를 반환
+  @Modifying
+  @Query(
+      "UPDATE Notification n SET n.isRead = :read WHERE n.user.id = :userId AND n.id IN :ids"
+          + " AND n.isRead <> :read AND n.isDeleted = :deleted")
+  int updateRead(
+      @Param("userId") Long userId,
+      @Param("ids") Collection<Long> ids,
+      @Param("read") Boolean read,
+      @Param("deleted") Boolean deleted);
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {}
+  // 사용자의 읽지 않은 알림 전체를 update 한 번으로 읽음 처리하고 바뀐 행 수를 반환
+  @Modifying
+  @Query(
+      "UPDATE Notification n SET n.isRead = :read WHERE n.user.id = :userId"
+          + " AND n.isRead <> :read AND n.isDeleted = :deleted")
+  int updateAllRead(
+      @Param("userId") Long userId, @Param("read") Boolean read, @Param("deleted") Boolean deleted);
+}
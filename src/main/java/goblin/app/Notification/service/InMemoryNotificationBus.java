@@ -0,0 +1,47 @@
+package goblin.app.Notification.service;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 같은 JVM 의 구독자에게 커밋 후 바로 전달 (단일 노드, 테스트용)
+@Component
+@ConditionalOnProperty(name = "notification.bus", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryNotificationBus implements NotificationBus {
+
+  private final SseNotificationSender sseNotificationSender;
+
+  @Override
+  public void publish(List<Delivery> deliveries) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      send(deliveries);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            send(deliveries);
+          }
+        });
+  }
+
+  // 전송 실패는 연결 문제이므로 로그만 남김 (커밋된 알림은 재연결 시 다시 받음)
+  private void send(List<Delivery> deliveries) {
+    try {
+      for (Delivery delivery : deliveries) {
+        sseNotificationSender.send(delivery.userId(), delivery.notification());
+      }
+    } catch (RuntimeException e) {
+      log.error("알림 {}건 전송 중 오류", deliveries.size(), e);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 메모리 기반 아웃박스 (테스트, DB 없이 띄우는 단일 노드용)
+ * - notification.outbox.store=memory 일 때 사용
+ * - 트랜잭션 안에서 호출되면 append/complete 를 커밋 후에 반영해, 롤백된 요청은 남기지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "notification.outbox.store", havingValue = "memory")
+public class InMemoryNotificationOutboxStore implements NotificationOutboxStore {
+
+  private final Clock clock;
+  private final Map<Long, Entry> entries = new LinkedHashMap<>();
+  private long nextId = 1;
+
+  public InMemoryNotificationOutboxStore() {
+    this(Clock.systemDefaultZone());
+  }
+
+  InMemoryNotificationOutboxStore(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public void append(NotificationRequestedEvent event, long delayMillis) {
+    afterCommit(
+        () -> {
+          LocalDateTime availableAt = LocalDateTime.now(clock).plusNanos(delayMillis * 1_000_000);
+          synchronized (entries) {
+            entries.put(nextId, new Entry(nextId, event, LocalDateTime.now(clock), availableAt));
+            nextId++;
+          }
+        });
+  }
+
+  @Override
+  public List<OutboxMessage> claim(
+      int limit, long leaseMillis, long windowMillis, long maxDelayMillis) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    List<OutboxMessage> claimed = new ArrayList<>();
+    synchronized (entries) {
+      LocalDateTime firstRequestedAt = null;
+      LocalDateTime lastRequestedAt = null;
+      for (Entry entry : entries.values()) {
+        if (!entry.failed && entry.attempts == 0) {
+          if (firstRequestedAt == null || entry.createdAt.isBefore(firstRequestedAt)) {
+            firstRequestedAt = entry.createdAt;
+          }
+          if (lastRequestedAt == null || entry.createdAt.isAfter(lastRequestedAt)) {
+            lastRequestedAt = entry.createdAt;
+          }
+        }
+      }
+      int minAttempts =
+          NotificationOutboxStore.burstOpen(
+                  firstRequestedAt, lastRequestedAt, now, windowMillis, maxDelayMillis)
+              ? 1
+              : 0;
+      for (Entry entry : entries.values()) {
+        if (claimed.size() >= limit) {
+          break;
+        }
+        if (!entry.failed && entry.attempts >= minAttempts && !entry.availableAt.isAfter(now)) {
+          entry.attempts++;
+          entry.availableAt = now.plusNanos(leaseMillis * 1_000_000);
+          claimed.add(new OutboxMessage(entry.id, entry.event, entry.attempts));
+        }
+      }
+    }
+    return claimed;
+  }
+
+  @Override
+  public void complete(Long id) {
+    afterCommit(
+        () -> {
+          synchronized (entries) {
+            entries.remove(id);
+          }
+        });
+  }
+
+  @Override
+  public void retry(Long id, LocalDateTime nextAttemptAt, String error) {
+    synchronized (entries) {
+      Entry entry = entries.get(id);
+      if (entry != null) {
+        entry.availableAt = nextAttemptAt;
+        entry.lastError = error;
+      }
+    }
+  }
+
+  @Override
+  public void fail(Long id, String error) {
+    synchronized (entries) {
+      Entry entry = entries.get(id);
+      if (entry != null) {
+        entry.failed = true;
+        entry.lastError = error;
+      }
+    }
+  }
+
+  public int pendingCount() {
+    synchronized (entries) {
+      return (int) entries.values().stream().filter(entry -> !entry.failed).count();
+    }
+  }
+
+  public int failedCount() {
+    synchronized (entries) {
+      return (int) entries.values().stream().filter(entry -> entry.failed).count();
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private static final class Entry {
+    private final Long id;
+    private final NotificationRequestedEvent event;
+    private final LocalDateTime createdAt;
+    private LocalDateTime availableAt;
+    private int attempts;
+    private boolean failed;
+    private String lastError;
+
+    private Entry(
+        Long id,
+        NotificationRequestedEvent event,
+        LocalDateTime createdAt,
+        LocalDateTime availableAt) {
+      this.id = id;
+      this.event = event;
+      this.createdAt = createdAt;
+      this.availableAt = availableAt;
+    }
+  }
+}
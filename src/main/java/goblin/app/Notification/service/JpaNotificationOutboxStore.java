@@ -0,0 +1,108 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import goblin.app.Notification.model.entity.NotificationOutbox;
+import goblin.app.Notification.model.entity.NotificationOutboxRepository;
+import goblin.app.Notification.model.entity.NotificationOutboxRepository.PendingBurst;
+
+// notification_outbox 테이블 기반 저장소 (기본값)
+@Component
+@ConditionalOnProperty(
+    name = "notification.outbox.store",
+    havingValue = "jpa",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaNotificationOutboxStore implements NotificationOutboxStore {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final Clock clock = Clock.systemDefaultZone();
+
+  @Override
+  @Transactional
+  public void append(NotificationRequestedEvent event, long delayMillis) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    NotificationOutbox row = new NotificationOutbox(event.type(), event.calendarId(), now);
+    row.setAvailableAt(now.plusNanos(delayMillis * 1_000_000));
+    notificationOutboxRepository.save(row);
+  }
+
+  // 잠금은 가져가는 동안만 잡고 바로 커밋, 이후에는 available_at(lease) 으로 중복 처리를 막음
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<OutboxMessage> claim(
+      int limit, long leaseMillis, long windowMillis, long maxDelayMillis) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    PendingBurst burst =
+        notificationOutboxRepository.findPendingBurst(NotificationOutbox.Status.PENDING);
+    boolean burstOpen =
+        NotificationOutboxStore.burstOpen(
+            burst.getFirstRequestedAt(),
+            burst.getLastRequestedAt(),
+            now,
+            windowMillis,
+            maxDelayMillis);
+    List<NotificationOutbox> rows =
+        notificationOutboxRepository.lockAvailable(now, burstOpen ? 1 : 0, limit);
+    for (NotificationOutbox row : rows) {
+      row.setAttempts(row.getAttempts() + 1);
+      row.setAvailableAt(now.plusNanos(leaseMillis * 1_000_000));
+    }
+    return rows.stream()
+        .map(
+            row ->
+                new OutboxMessage(
+                    row.getId(),
+                    new NotificationRequestedEvent(row.getType(), row.getCalendarId()),
+                    row.getAttempts()))
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public void complete(Long id) {
+    notificationOutboxRepository.deleteById(id);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void retry(Long id, LocalDateTime nextAttemptAt, String error) {
+    notificationOutboxRepository
+        .findById(id)
+        .ifPresent(
+            row -> {
+              row.setAvailableAt(nextAttemptAt);
+              row.setLastError(truncate(error));
+            });
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void fail(Long id, String error) {
+    notificationOutboxRepository
+        .findById(id)
+        .ifPresent(
+            row -> {
+              row.setStatus(NotificationOutbox.Status.FAILED);
+              row.setLastError(truncate(error));
+            });
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,220 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+import goblin.app.Notification.model.entity.EmitterRepository;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationBroadcast;
+import goblin.app.Notification.model.entity.NotificationBroadcastRepository;
+import goblin.app.Notification.model.entity.NotificationRepository;
+
+/*
+ * MySQL 테이블 폴링 방식의 노드 간 알림 버스 (notification.bus=mysql)
+ * - publish: (알림 id, 수신자) 행을 알림과 같은 트랜잭션에서 notification_broadcast 에 기록
+ * - 모든 노드가 poll-millis 마다 최근 행을 읽어 자기에게 연결된 구독자에게 전송
+ *   - 이 노드에 구독 중이 아닌 수신자의 행은 알림을 읽지 않고 건너뜀 (재연결 시 DB 에서 다시 받음)
+ * - id 는 노드마다 블록으로 할당되어 커밋 순서와 다르므로 생성 시각으로 읽음
+ *   - 늦게 커밋된 행과 노드 간 시계 차이를 위해 grace-millis 만큼 겹쳐 읽고, 이미 처리한 행은 건너뜀
+ * - retention-millis 가 지난 행은 주기적으로 삭제 (놓친 알림은 재연결 시 DB 에서 다시 받음)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.bus", havingValue = "mysql")
+@Slf4j
+public class MySqlNotificationBus implements NotificationBus {
+
+  private static final long PURGE_INTERVAL_MILLIS = 60_000;
+
+  private final NotificationBroadcastRepository broadcastRepository;
+  private final NotificationRepository notificationRepository;
+  private final EmitterRepository emitterRepository;
+  private final SseNotificationSender sseNotificationSender;
+  private final TransactionOperations transactionOperations;
+  private final Clock clock;
+  private final long pollMillis;
+  private final long graceMillis;
+  private final long retentionMillis;
+  private final int batchSize;
+
+  // 아래 상태는 폴링 스레드에서만 사용
+  private final Map<Long, LocalDateTime> seen = new HashMap<>();
+  private LocalDateTime cursor;
+  private LocalDateTime lastPurgeAt;
+  private ScheduledExecutorService poller;
+
+  @Autowired
+  public MySqlNotificationBus(
+      NotificationBroadcastRepository broadcastRepository,
+      NotificationRepository notificationRepository,
+      EmitterRepository emitterRepository,
+      SseNotificationSender sseNotificationSender,
+      TransactionOperations transactionOperations,
+      @Value("${notification.bus.poll-millis:500}") long pollMillis,
+      @Value("${notification.bus.grace-millis:5000}") long graceMillis,
+      @Value("${notification.bus.retention-millis:600000}") long retentionMillis,
+      @Value("${notification.bus.batch-size:500}") int batchSize) {
+    this(
+        broadcastRepository,
+        notificationRepository,
+        emitterRepository,
+        sseNotificationSender,
+        transactionOperations,
+        Clock.systemDefaultZone(),
+        pollMillis,
+        graceMillis,
+        retentionMillis,
+        batchSize);
+  }
+
+  MySqlNotificationBus(
+      NotificationBroadcastRepository broadcastRepository,
+      NotificationRepository notificationRepository,
+      EmitterRepository emitterRepository,
+      SseNotificationSender sseNotificationSender,
+      TransactionOperations transactionOperations,
+      Clock clock,
+      long pollMillis,
+      long graceMillis,
+      long retentionMillis,
+      int batchSize) {
+    this.broadcastRepository = broadcastRepository;
+    this.notificationRepository = notificationRepository;
+    this.emitterRepository = emitterRepository;
+    this.sseNotificationSender = sseNotificationSender;
+    this.transactionOperations = transactionOperations;
+    this.clock = clock;
+    this.pollMillis = pollMillis;
+    this.graceMillis = graceMillis;
+    this.retentionMillis = retentionMillis;
+    this.batchSize = batchSize;
+    // 기동 이전 행은 전달하지 않음 (재연결 시 DB 에서 다시 받음)
+    this.cursor = LocalDateTime.now(clock);
+    this.lastPurgeAt = cursor;
+  }
+
+  @PostConstruct
+  void start() {
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "notification-bus");
+              thread.setDaemon(true);
+              return thread;
+            });
+    poller.scheduleWithFixedDelay(this::pollQuietly, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (poller != null) {
+      poller.shutdownNow();
+    }
+  }
+
+  @Override
+  public void publish(List<Delivery> deliveries) {
+    if (deliveries.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now(clock);
+    List<NotificationBroadcast> rows = new ArrayList<>(deliveries.size());
+    for (Delivery delivery : deliveries) {
+      rows.add(new NotificationBroadcast(delivery.notification().getId(), delivery.userId(), now));
+    }
+    broadcastRepository.saveAll(rows);
+  }
+
+  private void pollQuietly() {
+    try {
+      poll();
+    } catch (RuntimeException e) {
+      log.error("알림 버스 폴링 중 오류", e);
+    }
+  }
+
+  // 최근 행을 읽어 이 노드의 구독자에게 전송하고 전송한 행 수를 반환
+  int poll() {
+    LocalDateTime now = LocalDateTime.now(clock);
+    LocalDateTime since = cursor.minusNanos(graceMillis * 1_000_000);
+    int delivered = 0;
+    while (true) {
+      List<NotificationBroadcast> rows =
+          broadcastRepository.findAllByCreatedAtGreaterThanEqualOrderByCreatedAt(
+              since, Limit.of(batchSize));
+      delivered += deliver(rows);
+      if (rows.size() < batchSize) {
+        break;
+      }
+      LocalDateTime last = rows.get(rows.size() - 1).getCreatedAt();
+      if (!last.isAfter(since)) {
+        // 같은 시각의 행이 batch-size 를 넘음, 나머지는 다음 폴링에서 처리
+        log.warn("같은 시각에 기록된 알림 전달 행이 {}건을 넘음: {}", batchSize, last);
+        break;
+      }
+      since = last;
+    }
+
+    cursor = now;
+    LocalDateTime horizon = cursor.minusNanos(graceMillis * 1_000_000);
+    seen.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+
+    if (now.isAfter(lastPurgeAt.plusNanos(PURGE_INTERVAL_MILLIS * 1_000_000))) {
+      lastPurgeAt = now;
+      LocalDateTime cutoff = now.minusNanos(retentionMillis * 1_000_000);
+      Integer purged =
+          transactionOperations.execute(
+              status -> broadcastRepository.deleteAllCreatedBefore(cutoff));
+      log.debug("보존 기간이 지난 알림 전달 행 {}건 삭제", purged);
+    }
+    return delivered;
+  }
+
+  private int deliver(List<NotificationBroadcast> rows) {
+    List<NotificationBroadcast> fresh = new ArrayList<>();
+    for (NotificationBroadcast row : rows) {
+      if (seen.putIfAbsent(row.getId(), row.getCreatedAt()) == null
+          && emitterRepository.existsByUserId(row.getReceiverId())) {
+        fresh.add(row);
+      }
+    }
+    if (fresh.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, NotificationResponseDto> notifications = new HashMap<>();
+    for (Notification notification :
+        notificationRepository.findAllById(
+            fresh.stream().map(NotificationBroadcast::getNotificationId).toList())) {
+      notifications.put(notification.getId(), new NotificationResponseDto(notification));
+    }
+    int delivered = 0;
+    for (NotificationBroadcast row : fresh) {
+      NotificationResponseDto notification = notifications.get(row.getNotificationId());
+      if (notification != null) { // 그 사이 삭제된 알림은 건너뜀
+        sseNotificationSender.send(row.getReceiverId(), notification);
+        delivered++;
+      }
+    }
+    return delivered;
+  }
+}
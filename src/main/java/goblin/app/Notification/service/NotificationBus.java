@@ -0,0 +1,19 @@
+package goblin.app.Notification.service;
+
+import java.util.List;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+
+/*
+ * 저장된 알림을 모든 노드에 알리는 전달 버스
+ * - 한 번 publish 하면 각 노드가 자기에게 연결된 구독자에게만 SSE 로 전송
+ * - notification.bus=memory(기본): 같은 JVM 안에서 바로 전달 (단일 노드, 테스트)
+ * - notification.bus=mysql: 전달 행을 테이블에 기록하고 모든 노드가 폴링 (추가 인프라 불필요)
+ */
+public interface NotificationBus {
+
+  // 알림을 저장한 트랜잭션 안에서 호출 (전달 기록은 알림과 함께 커밋되고, 전송은 커밋 후에만 일어남)
+  void publish(List<Delivery> deliveries);
+
+  record Delivery(Long userId, NotificationResponseDto notification) {}
+}
@@ -0,0 +1,110 @@
+package goblin.app.Notification.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goblin.app.Notification.model.dto.NotificationDto;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.User.model.entity.User;
+
+/*
+ * 알림 묶음 처리
+ * - 알림 요청은 window-millis 동안 모았다가 한 번에 처리 (요청이 이어지면 max-delay-millis 까지 미룸)
+ * - 한 번에 처리하는 요청들 중 (수신자, 알림 유형, 그룹) 이 같은 알림은 하나로 합침
+ *   - 같은 일정에 대한 알림이 여러 번이면 마지막 것 하나만 남김
+ *   - 서로 다른 일정이면 "N개" 요약 알림 하나로 저장 (calendarId 는 가장 최근 일정)
+ */
+@Component
+public class NotificationCoalescer {
+
+  private static final int MAX_DETAILS_LENGTH = 255;
+
+  private final long windowMillis;
+  private final long maxDelayMillis;
+
+  public NotificationCoalescer(
+      @Value("${notification.coalesce.window-millis:3000}") long windowMillis,
+      @Value("${notification.coalesce.max-delay-millis:15000}") long maxDelayMillis) {
+    this.windowMillis = Math.max(0, windowMillis);
+    this.maxDelayMillis = Math.max(this.windowMillis, maxDelayMillis);
+  }
+
+  public long windowMillis() {
+    return windowMillis;
+  }
+
+  public long maxDelayMillis() {
+    return maxDelayMillis;
+  }
+
+  // 수신자 한 명에게 보낼 알림 한 건
+  public record Item(User receiver, NotificationDto dto) {}
+
+  private record Key(Long userId, NotificationType type, Long groupId) {}
+
+  // 요청 순서대로 받은 알림을 합쳐 저장할 Notification 목록으로 변환
+  public List<Notification> merge(List<Item> items) {
+    Map<Key, List<Item>> groups = new LinkedHashMap<>();
+    for (Item item : items) {
+      Key key = new Key(item.receiver().getId(), item.dto().getType(), item.dto().getGroupId());
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+    }
+
+    List<Notification> merged = new ArrayList<>(groups.size());
+    for (List<Item> group : groups.values()) {
+      // 같은 일정은 마지막 알림만 남김 (순서는 마지막으로 나온 위치 기준)
+      Map<Long, NotificationDto> byCalendar = new LinkedHashMap<>();
+      for (Item item : group) {
+        byCalendar.remove(item.dto().getCalendarId());
+        byCalendar.put(item.dto().getCalendarId(), item.dto());
+      }
+      User receiver = group.get(0).receiver();
+      List<NotificationDto> distinct = new ArrayList<>(byCalendar.values());
+      merged.add(
+          distinct.size() == 1
+              ? distinct.get(0).ToEntity(receiver)
+              : digest(distinct).ToEntity(receiver));
+    }
+    return merged;
+  }
+
+  private static NotificationDto digest(List<NotificationDto> dtos) {
+    NotificationDto latest = dtos.get(dtos.size() - 1);
+    int count = dtos.size();
+
+    NotificationDto digest = new NotificationDto();
+    digest.setMsgTitle(digestTitle(latest.getType(), count));
+    digest.setEventName(latest.getEventName() + " 외 " + (count - 1) + "건");
+    digest.setDetails1(
+        truncate(
+            String.join(
+                ", ",
+                dtos.stream().map(NotificationDto::getEventName).map(Objects::toString).toList())));
+    digest.setType(latest.getType());
+    digest.setCalendarId(latest.getCalendarId());
+    digest.setGroupId(latest.getGroupId());
+    return digest;
+  }
+
+  private static String digestTitle(NotificationType type, int count) {
+    return switch (type) {
+      case EVENT_CREATED -> "새로운 모임 일정이 " + count + "개 왔어요!";
+      case EVENT_FIXED -> "모임 일정 " + count + "개가 확정됐어요!";
+      case MUST_FIX_EVENT -> "확정할 일정이 " + count + "개 있어요!";
+      case DUMMY -> "새 알림 " + count + "개";
+    };
+  }
+
+  private static String truncate(String value) {
+    return value.length() <= MAX_DETAILS_LENGTH
+        ? value
+        : value.substring(0, MAX_DETAILS_LENGTH - 1) + "…";
+  }
+}
@@ -0,0 +1,115 @@
+package goblin.app.Notification.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goblin.app.Notification.model.entity.Notification;
+
+/*
+ * 수신자별 알림 전달 순번 할당기 (SSE 이벤트 id, 재연결 시 Last-Event-ID 로 이어 받는 기준)
+ * - 알림 id 는 노드마다 블록 단위로 할당되므로 커밋 순서와 다름 -> 재전송 기준으로 쓸 수 없음
+ * - notification_sequence 의 수신자 행을 UPDATE 로 늘려 행 잠금을 커밋까지 잡음
+ *   => 같은 수신자의 순번은 커밋 순서대로 빈틈 없이 1 씩 증가
+ * - 수신자 id 오름차순으로 잠가 여러 수신자에게 동시에 보내는 트랜잭션끼리 교착되지 않게 함
+ * - 처음 받는 수신자의 행은 별도 트랜잭션에서 먼저 만들어 둠 (같은 키 INSERT 경합은 서로 교착될 수 있음)
+ * 알림 저장과 같은 트랜잭션 안에서 호출해야 함
+ */
+@Component
+public class NotificationDeliverySequence implements InitializingBean {
+
+  public static final String TABLE = "notification_sequence";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate newTransaction;
+
+  // 행을 만들어 둔 수신자 (행은 지우지 않으므로 한 번 확인하면 다시 만들 필요 없음)
+  private final Set<Long> seeded = ConcurrentHashMap.newKeySet();
+
+  public NotificationDeliverySequence(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + TABLE
+            + " (user_id BIGINT NOT NULL PRIMARY KEY, last_seq BIGINT NOT NULL)");
+  }
+
+  // 같은 수신자의 알림은 목록 순서대로 다음 순번을 받음
+  public void assign(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    TreeMap<Long, List<Notification>> byReceiver = new TreeMap<>();
+    for (Notification notification : notifications) {
+      byReceiver
+          .computeIfAbsent(notification.getUser().getId(), id -> new ArrayList<>())
+          .add(notification);
+    }
+
+    seed(byReceiver.keySet());
+
+    List<Object[]> increments = new ArrayList<>();
+    byReceiver.forEach((userId, owned) -> increments.add(new Object[] {owned.size(), userId}));
+    jdbcTemplate.batchUpdate(
+        "UPDATE " + TABLE + " SET last_seq = last_seq + ? WHERE user_id = ?", increments);
+
+    // 잠근 행은 이 트랜잭션만 바꿀 수 있으므로 다시 읽은 값이 곧 이번에 받은 구간의 끝
+    Map<Long, Long> lastSeq = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT user_id, last_seq FROM "
+            + TABLE
+            + " WHERE user_id IN ("
+            + String.join(", ", Collections.nCopies(byReceiver.size(), "?"))
+            + ")",
+        row -> {
+          lastSeq.put(row.getLong("user_id"), row.getLong("last_seq"));
+        },
+        byReceiver.keySet().toArray());
+
+    byReceiver.forEach(
+        (userId, owned) -> {
+          long seq = lastSeq.get(userId) - owned.size();
+          for (Notification notification : owned) {
+            notification.assignDeliverySeq(++seq);
+          }
+        });
+  }
+
+  private void seed(Set<Long> receivers) {
+    List<Object[]> missing = new ArrayList<>();
+    for (Long userId : receivers) {
+      if (!seeded.contains(userId)) {
+        missing.add(new Object[] {userId});
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+    newTransaction.executeWithoutResult(
+        status ->
+            jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO " + TABLE + " (user_id, last_seq) VALUES (?, 0)", missing));
+    for (Object[] row : missing) {
+      seeded.add((Long) row[0]);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package goblin.app.Notification.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import goblin.app.Notification.model.dto.NotificationInboxDto;
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationRepository;
+
+/*
+ * 알림 수신함
+ * - (receiver_id, delivery_seq) 인덱스로 최신순 키셋 조회, 페이지가 깊어져도 offset 비용이 없음
+ *   - 알림 id 는 노드마다 블록으로 할당되어 커밋 순서와 다르므로, 수신자별 커밋 순서인 전달 순번을 커서로 씀
+ * - 읽음 처리는 update 한 번으로 하고, 바뀐 행 수만큼 읽지 않은 알림 수를 커밋 후 줄임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationInboxService {
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounter notificationUnreadCounter;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // cursor 가 없으면 최신 알림부터, 있으면 그 전달 순번보다 오래된 알림부터 size 개
+  @Transactional(readOnly = true)
+  public NotificationInboxDto getInbox(Long userId, Long cursor, Integer size) {
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    long beforeSeq = cursor == null ? Long.MAX_VALUE : cursor;
+    // 읽지 않은 수를 첫 조회로 적재 (수신함을 먼저 읽으면 그 스냅샷으로 COUNT 가 돌아 적재 중 커밋된 변화를 놓침)
+    long unreadCount = notificationUnreadCounter.unreadCount(userId);
+
+    // 한 건 더 읽어 다음 페이지가 있는지 확인
+    List<Notification> rows =
+        notificationRepository.findInbox(userId, beforeSeq, false, Limit.of(pageSize + 1));
+    boolean hasNext = rows.size() > pageSize;
+    List<NotificationResponseDto> page =
+        rows.stream().limit(pageSize).map(NotificationResponseDto::new).toList();
+    Long nextCursor = hasNext ? page.get(page.size() - 1).getDeliverySeq() : null;
+    return new NotificationInboxDto(page, nextCursor, hasNext, unreadCount);
+  }
+
+  public long unreadCount(Long userId) {
+    return notificationUnreadCounter.unreadCount(userId);
+  }
+
+  // 다른 사용자의 알림 id 는 조건에서 걸러짐, 새로 읽음 처리된 수를 반환
+  @Transactional
+  public int markRead(Long userId, Collection<Long> notificationIds) {
+    if (notificationIds == null || notificationIds.isEmpty()) {
+      return 0;
+    }
+    int updated = notificationRepository.updateRead(userId, notificationIds, true, false);
+    if (updated > 0) {
+      eventPublisher.publishEvent(NotificationUnreadChangedEvent.of(userId, -updated));
+    }
+    return updated;
+  }
+
+  @Transactional
+  public int markAllRead(Long userId) {
+    int updated = notificationRepository.updateAllRead(userId, true, false);
+    if (updated > 0) {
+      eventPublisher.publishEvent(NotificationUnreadChangedEvent.of(userId, -updated));
+    }
+    log.info("알림 모두 읽음 처리: userId = {}, {}건", userId, updated);
+    return updated;
+  }
+}
@@ -0,0 +1,249 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.service.NotificationBus.Delivery;
+import goblin.app.Notification.service.NotificationOutboxStore.OutboxMessage;
+
+/*
+ * 알림 아웃박스 처리기
+ * 1. 요청 트랜잭션이 커밋되면 묶음 대기 시간 뒤로 처리를 예약 (요청이 이어지면 다시 미루되 최대 지연까지만)
+ *    놓친 요청은 주기 폴링으로 처리 (어느 쪽이든 아직 열린 묶음의 요청은 가져가지 않음)
+ * 2. 아웃박스에서 batch-size 개씩 가져감 (lease 동안 다른 노드/스레드는 가져가지 못함)
+ * 3. 가져온 요청들의 수신자별 알림을 NotificationCoalescer 로 합쳐 저장하고, NotificationBus 전달 기록과
+ *    아웃박스 삭제까지 한 트랜잭션으로 처리
+ *    => 알림과 전달 기록은 정확히 한 번 함께 저장, 묶음이 실패하면 요청별로 나눠 다시 처리
+ * 4. 커밋 후 모든 노드가 자기 구독자에게 전송 (전송 실패는 연결 문제이므로 재시도하지 않음)
+ * 5. 저장/기록이 실패하면 지수 백오프로 재시도, max-attempts 를 넘으면 FAILED 로 남김
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+  private final NotificationOutboxStore outboxStore;
+  private final NotificationService notificationService;
+  private final NotificationBus notificationBus;
+  private final NotificationCoalescer notificationCoalescer;
+  private final TransactionOperations transactionOperations;
+  private final Clock clock;
+  private final int batchSize;
+  private final long leaseMillis;
+  private final int maxAttempts;
+  private final long backoffMillis;
+  private final long pollMillis;
+  private ScheduledExecutorService poller;
+  // 예약된 처리와 현재 묶음의 첫 요청 시각 (0 이면 예약 없음)
+  private ScheduledFuture<?> scheduledDrain;
+  private long burstStartedAt;
+
+  @Autowired
+  public NotificationOutboxRelay(
+      NotificationOutboxStore outboxStore,
+      NotificationService notificationService,
+      NotificationBus notificationBus,
+      NotificationCoalescer notificationCoalescer,
+      TransactionOperations transactionOperations,
+      @Value("${notification.outbox.batch-size:100}") int batchSize,
+      @Value("${notification.outbox.lease-millis:60000}") long leaseMillis,
+      @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+      @Value("${notification.outbox.backoff-millis:1000}") long backoffMillis,
+      @Value("${notification.outbox.poll-millis:5000}") long pollMillis) {
+    this(
+        outboxStore,
+        notificationService,
+        notificationBus,
+        notificationCoalescer,
+        transactionOperations,
+        Clock.systemDefaultZone(),
+        batchSize,
+        leaseMillis,
+        maxAttempts,
+        backoffMillis,
+        pollMillis);
+  }
+
+  NotificationOutboxRelay(
+      NotificationOutboxStore outboxStore,
+      NotificationService notificationService,
+      NotificationBus notificationBus,
+      NotificationCoalescer notificationCoalescer,
+      TransactionOperations transactionOperations,
+      Clock clock,
+      int batchSize,
+      long leaseMillis,
+      int maxAttempts,
+      long backoffMillis,
+      long pollMillis) {
+    this.outboxStore = outboxStore;
+    this.notificationService = notificationService;
+    this.notificationBus = notificationBus;
+    this.notificationCoalescer = notificationCoalescer;
+    this.transactionOperations = transactionOperations;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.leaseMillis = leaseMillis;
+    this.maxAttempts = maxAttempts;
+    this.backoffMillis = backoffMillis;
+    this.pollMillis = pollMillis;
+  }
+
+  @PostConstruct
+  void start() {
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "notification-outbox");
+              thread.setDaemon(true);
+              return thread;
+            });
+    poller.scheduleWithFixedDelay(
+        this::drainQuietly, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (poller != null) {
+      poller.shutdownNow();
+    }
+  }
+
+  // 요청 트랜잭션 커밋 후 폴링 주기를 기다리지 않고, 묶음 대기 시간 뒤로 처리를 예약
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onNotificationRequested(NotificationRequestedEvent event) {
+    scheduleDrain();
+  }
+
+  // 마지막 요청 뒤 window 만큼 기다리되, 묶음의 첫 요청부터 max-delay 는 넘기지 않음
+  private synchronized void scheduleDrain() {
+    if (poller == null) {
+      return;
+    }
+    long now = clock.millis();
+    if (burstStartedAt == 0) {
+      burstStartedAt = now;
+    }
+    long fireAt =
+        Math.min(
+            now + notificationCoalescer.windowMillis(),
+            burstStartedAt + notificationCoalescer.maxDelayMillis());
+    if (scheduledDrain != null) {
+      scheduledDrain.cancel(false);
+    }
+    scheduledDrain =
+        poller.schedule(this::runScheduledDrain, Math.max(0, fireAt - now), TimeUnit.MILLISECONDS);
+  }
+
+  private void runScheduledDrain() {
+    synchronized (this) {
+      burstStartedAt = 0;
+      scheduledDrain = null;
+    }
+    drainQuietly();
+  }
+
+  // 가져갈 요청이 없을 때까지 처리하고 처리한 요청 수를 반환
+  public int drain() {
+    int processed = 0;
+    while (true) {
+      List<OutboxMessage> batch =
+          outboxStore.claim(
+              batchSize,
+              leaseMillis,
+              notificationCoalescer.windowMillis(),
+              notificationCoalescer.maxDelayMillis());
+      if (batch.isEmpty()) {
+        return processed;
+      }
+      deliver(batch);
+      processed += batch.size();
+    }
+  }
+
+  private void drainQuietly() {
+    try {
+      drain();
+    } catch (RuntimeException e) {
+      log.error("알림 아웃박스 처리 중 오류", e);
+    }
+  }
+
+  private void deliver(List<OutboxMessage> batch) {
+    try {
+      transactionOperations.executeWithoutResult(
+          status -> {
+            List<Notification> saved =
+                notificationService.persistFanOut(
+                    batch.stream().map(OutboxMessage::event).toList());
+            notificationBus.publish(toDeliveries(saved));
+            batch.forEach(message -> outboxStore.complete(message.id()));
+          });
+    } catch (RuntimeException e) {
+      if (batch.size() > 1) {
+        // 한 요청 때문에 묶음 전체가 밀리지 않도록 요청별로 다시 처리
+        log.warn("알림 요청 {}건 묶음 처리 실패, 요청별로 다시 처리: {}", batch.size(), e.getMessage());
+        batch.forEach(message -> deliver(List.of(message)));
+      } else {
+        handleFailure(batch.get(0), e);
+      }
+    }
+  }
+
+  private static List<Delivery> toDeliveries(List<Notification> notifications) {
+    List<Delivery> deliveries = new ArrayList<>(notifications.size());
+    for (Notification notification : notifications) {
+      deliveries.add(
+          new Delivery(notification.getUser().getId(), new NotificationResponseDto(notification)));
+    }
+    return deliveries;
+  }
+
+  private void handleFailure(OutboxMessage message, RuntimeException e) {
+    NotificationRequestedEvent event = message.event();
+    if (message.attempts() >= maxAttempts) {
+      outboxStore.fail(message.id(), e.getMessage());
+      log.error(
+          "알림 요청 처리 포기: id = {}, type = {}, calendarId = {}, 시도 {}회",
+          message.id(),
+          event.type(),
+          event.calendarId(),
+          message.attempts(),
+          e);
+    } else {
+      LocalDateTime nextAttemptAt =
+          LocalDateTime.now(clock).plusNanos(backoff(message) * 1_000_000);
+      outboxStore.retry(message.id(), nextAttemptAt, e.getMessage());
+      log.warn(
+          "알림 요청 처리 실패, {} 에 재시도: id = {}, 시도 {}회, {}",
+          nextAttemptAt,
+          message.id(),
+          message.attempts(),
+          e.getMessage());
+    }
+  }
+
+  // backoff-millis * 2^(시도 횟수 - 1), 최대 64배
+  private long backoff(OutboxMessage message) {
+    return backoffMillis << Math.min(message.attempts() - 1, 6);
+  }
+}
@@ -0,0 +1,42 @@
+package goblin.app.Notification.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 알림 아웃박스 저장소
+ * - append: 호출한 트랜잭션 안에서 요청을 기록 (도메인 변경과 함께 커밋/롤백), delayMillis 뒤부터 가져갈 수 있음
+ * - claim: 처리할 요청을 가져가고 lease 동안 다른 처리기에서 보이지 않게 함
+ *   첫 시도 요청은 묶음이 닫힌 뒤에만 가져감 (마지막 요청 뒤 windowMillis, 또는 첫 요청 뒤 maxDelayMillis 가 지남)
+ *   => 어느 노드의 주기 폴링이 먼저 돌아도 묶음을 중간에 나누지 않음
+ * - complete: 처리 완료 (처리 결과를 저장하는 트랜잭션 안에서 호출)
+ * - retry/fail: 다음 시도 시각을 정하거나 더 이상 시도하지 않음
+ */
+public interface NotificationOutboxStore {
+
+  void append(NotificationRequestedEvent event, long delayMillis);
+
+  List<OutboxMessage> claim(int limit, long leaseMillis, long windowMillis, long maxDelayMillis);
+
+  void complete(Long id);
+
+  void retry(Long id, LocalDateTime nextAttemptAt, String error);
+
+  void fail(Long id, String error);
+
+  record OutboxMessage(Long id, NotificationRequestedEvent event, int attempts) {}
+
+  // 첫 시도를 기다리는 요청들 중 첫/마지막 요청 시각으로 묶음이 아직 열려 있는지 판단
+  static boolean burstOpen(
+      LocalDateTime firstRequestedAt,
+      LocalDateTime lastRequestedAt,
+      LocalDateTime now,
+      long windowMillis,
+      long maxDelayMillis) {
+    if (firstRequestedAt == null) {
+      return false;
+    }
+    return lastRequestedAt.isAfter(now.minusNanos(windowMillis * 1_000_000))
+        && firstRequestedAt.isAfter(now.minusNanos(maxDelayMillis * 1_000_000));
+  }
+}
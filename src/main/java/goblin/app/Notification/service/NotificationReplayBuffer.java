@@ -0,0 +1,108 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+
+/*
+ * 재연결 시 놓친 알림을 다시 보내기 위한 사용자별 최근 알림 링 버퍼
+ * - 수신자별 전달 순번(SSE 이벤트 id) 순서로 사용자마다 최대 capacity 개 보관, 넘치면 가장 작은 순번부터 제거
+ * - 노드 간 전달 순서는 커밋 순서와 다를 수 있으므로 도착 순서가 아닌 순번으로 정렬, 같은 순번은 한 번만 보관
+ * - max-age 가 지난 항목은 기록/조회 시 제거, 사용자 수는 max-users 를 넘으면 LRU 로 제거
+ * - 순번은 빈틈 없이 1 씩 증가하므로 lastSeq 뒤가 모두 모여 있을 때만 버퍼에서 답함, 아니면 DB 에서 조회해야 함
+ */
+@Component
+public class NotificationReplayBuffer {
+
+  private final int capacity;
+  private final int maxUsers;
+  private final long maxAgeMillis;
+  private final Clock clock;
+  private final LinkedHashMap<Long, NavigableMap<Long, Entry>> buffers;
+
+  @Autowired
+  public NotificationReplayBuffer(
+      @Value("${notification.replay.capacity:50}") int capacity,
+      @Value("${notification.replay.max-users:10000}") int maxUsers,
+      @Value("${notification.replay.max-age-seconds:600}") long maxAgeSeconds) {
+    this(capacity, maxUsers, maxAgeSeconds * 1000, Clock.systemUTC());
+  }
+
+  NotificationReplayBuffer(int capacity, int maxUsers, long maxAgeMillis, Clock clock) {
+    this.capacity = capacity;
+    this.maxUsers = maxUsers;
+    this.maxAgeMillis = maxAgeMillis;
+    this.clock = clock;
+    this.buffers =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, NavigableMap<Long, Entry>> eldest) {
+            return size() > NotificationReplayBuffer.this.maxUsers;
+          }
+        };
+  }
+
+  public void append(Long userId, NotificationResponseDto notification) {
+    long now = clock.millis();
+    synchronized (buffers) {
+      NavigableMap<Long, Entry> buffer = buffers.computeIfAbsent(userId, id -> new TreeMap<>());
+      buffer.put(notification.getDeliverySeq(), new Entry(notification, now));
+      while (buffer.size() > capacity) {
+        buffer.pollFirstEntry();
+      }
+      expire(buffer, now);
+    }
+  }
+
+  /*
+   * lastSeq 다음 순번의 알림
+   * - lastSeq 다음부터 가장 큰 순번까지 빠짐없이 있으면 그 항목들 (없으면 빈 목록)
+   * - 버퍼가 비었거나 그 사이 순번이 밀려났거나 아직 도착하지 않았으면 Optional.empty()
+   */
+  public Optional<List<NotificationResponseDto>> since(Long userId, long lastSeq) {
+    long now = clock.millis();
+    synchronized (buffers) {
+      NavigableMap<Long, Entry> buffer = buffers.get(userId);
+      if (buffer == null) {
+        return Optional.empty();
+      }
+      expire(buffer, now);
+      if (buffer.isEmpty() || buffer.firstKey() > lastSeq + 1) {
+        return Optional.empty();
+      }
+      NavigableMap<Long, Entry> missed = buffer.tailMap(lastSeq, false);
+      if (missed.size() != Math.max(0, buffer.lastKey() - lastSeq)) {
+        return Optional.empty();
+      }
+      List<NotificationResponseDto> notifications = new ArrayList<>(missed.size());
+      for (Entry entry : missed.values()) {
+        notifications.add(entry.notification);
+      }
+      return Optional.of(notifications);
+    }
+  }
+
+  public int userCount() {
+    synchronized (buffers) {
+      return buffers.size();
+    }
+  }
+
+  // 늦게 도착한 작은 순번이 있을 수 있으므로 앞에서 멈추지 않고 전부 확인
+  private void expire(NavigableMap<Long, Entry> buffer, long now) {
+    buffer.values().removeIf(entry -> entry.recordedAt <= now - maxAgeMillis);
+  }
+
+  private record Entry(NotificationResponseDto notification, long recordedAt) {}
+}
@@ -0,0 +1,6 @@
+package goblin.app.Notification.service;
+
+import goblin.app.Notification.model.entity.NotificationType;
+
+// 일정 알림 요청 (알림 유형, 대상 일정), 수신자와 내용은 처리 시점에 결정
+public record NotificationRequestedEvent(NotificationType type, Long calendarId) {}
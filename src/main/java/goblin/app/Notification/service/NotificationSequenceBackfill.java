@@ -0,0 +1,65 @@
+package goblin.app.Notification.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 전달 순번 도입 전에 저장된 알림에 순번을 채움 (수신함과 재연결 조회가 delivery_seq 로만 읽으므로)
+ * - 수신자마다 가장 작은 기존 순번(없으면 1) 바로 아래부터 id 역순으로 1 씩 줄여 매김
+ *   => 예전 알림은 순번이 매겨진 알림보다 앞에 id 순서대로 놓이고, 0 이하라서 새 순번과 겹치지 않음
+ * - 비어 있는 행만 바꾸므로 여러 노드가 동시에 기동해도 같은 값을 쓰거나 건너뜀
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSequenceBackfill implements InitializingBean {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void afterPropertiesSet() {
+    Map<Long, Long> lowestSeq = new HashMap<>();
+    List<Object[]> updates = new ArrayList<>();
+    jdbcTemplate.query(
+        "SELECT notification_id, receiver_id FROM notification WHERE delivery_seq IS NULL"
+            + " AND receiver_id IS NOT NULL ORDER BY receiver_id, notification_id DESC",
+        row -> {
+          long receiverId = row.getLong("receiver_id");
+          long seq = lowestSeq.computeIfAbsent(receiverId, this::lowestSeqOf) - 1;
+          lowestSeq.put(receiverId, seq);
+          updates.add(new Object[] {seq, row.getLong("notification_id")});
+        });
+    if (updates.isEmpty()) {
+      return;
+    }
+    for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+      jdbcTemplate.batchUpdate(
+          "UPDATE notification SET delivery_seq = ? WHERE notification_id = ?"
+              + " AND delivery_seq IS NULL",
+          updates.subList(from, Math.min(from + BATCH_SIZE, updates.size())));
+    }
+    log.info("전달 순번이 없던 알림 {}건에 순번 부여: 수신자 {}명", updates.size(), lowestSeq.size());
+  }
+
+  private long lowestSeqOf(Long receiverId) {
+    Long lowest =
+        jdbcTemplate.queryForObject(
+            "SELECT MIN(delivery_seq) FROM notification WHERE receiver_id = ?",
+            Long.class,
+            receiverId);
+    return lowest == null ? 1 : Math.min(lowest, 1);
+  }
+}
@@ -1,18 +1,20 @@
 package goblin.app.Notification.service;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import goblin.app.Group.model.entity.GroupCalendar;
@@ -45,80 +47,133 @@ public class NotificationService {
 
   private final GroupCalendarRepository groupCalendarRepository;
 
+  private final SseHeartbeatScheduler sseHeartbeatScheduler;
+
+  private final SseEmitterWriter sseEmitterWriter;
+
+  private final NotificationCoalescer notificationCoalescer;
+
+  private final NotificationOutboxStore notificationOutboxStore;
+
+  private final NotificationReplayBuffer notificationReplayBuffer;
+
+  private final NotificationDeliverySequence notificationDeliverySequence;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   // 기본 타임아웃 10분 설정
   private static final Long DEFAULT_TIMEOUT = 600000L;
 
-  // SSE 구독 메서드
-  public SseEmitter eventN(Long userId) {
-    // 타임아웃을 1시간으로 설정
-    SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT); // 1시간 타임아웃
-    emitterRepository.save(userId, emitter);
+  // 재연결 시 DB 에서 다시 보내는 최대 알림 수 (넘으면 resync 이벤트로 수신함을 다시 읽게 함)
+  private static final int MAX_REPLAY_FROM_DB = 100;
 
-    // 주기적으로 keep-alive 메시지 전송을 위한 스케줄러 생성
-    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+  /*
+   * SSE 구독 메서드 (lastEventId 가 있으면 재연결로 보고 놓친 알림을 이어서 전송)
+   * - 구독 등록 전에 전송 큐를 열어 두어, 재전송분을 조회하는 동안 온 실시간 알림도 놓치지 않음
+   * - INIT 과 재전송분은 같은 큐의 앞에 넣고, 재전송한 순번 이하의 실시간 알림은 SseEmitterWriter 가 버림
+   *   => 중복이나 순서 뒤바뀜 없이 이벤트 id(Last-Event-ID)가 앞으로만 감
+   */
+  public SseEmitter eventN(Long userId, String lastEventId) {
+    User user =
+        userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
-    // 클라이언트로 초기 더미 데이터 전송
-    try {
-      User user =
-          userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-
-      // createDummyNotification 메서드를 사용해 더미 알림 생성
-      Notification dummyNotification = createDummyNotification(user);
-
-      // 더미 알림 데이터를 클라이언트로 전송
-      emitter.send(SseEmitter.event().name("INIT").data(dummyNotification));
-      log.info("Dummy notification sent to user with userId: {}", userId);
-
-      // 주기적으로 keep-alive 메시지 전송 (30초마다)
-      scheduler.scheduleAtFixedRate(
-          () -> {
-            try {
-              emitter.send(SseEmitter.event().name("keep-alive").data("keep-alive"));
-              log.info("Keep-alive message sent to user with userId: {}", userId);
-            } catch (IOException e) {
-              log.error("Error while sending keep-alive message to userId: {}", userId, e);
-              emitter.completeWithError(e);
-              emitterRepository.deleteById(userId); // 에러 발생 시 emitter 제거
-              scheduler.shutdown(); // 스케줄러 종료
-            }
-          },
-          0,
-          30,
-          TimeUnit.SECONDS); // 30초 간격으로 keep-alive 메시지 전송
-
-    } catch (IOException e) {
-      log.error("Error in eventN for userId: {}", userId, e);
-      emitter.completeWithError(e);
-      scheduler.shutdown(); // 에러 발생 시 스케줄러 종료
+    SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+    sseEmitterWriter.open(userId, emitter);
+    // 다른 기기의 구독은 유지, 기기 수 한도를 넘으면 가장 오래된 구독만 종료
+    for (SseEmitter evicted : emitterRepository.save(userId, emitter)) {
+      log.info("기기 수 한도 초과로 가장 오래된 구독 종료: userId = {}", userId);
+      evicted.complete();
     }
 
-    // Emitter 완료 처리
+    // Emitter 완료 처리 (같은 사용자의 다른 기기 emitter 는 지우지 않음)
     emitter.onCompletion(
         () -> {
           log.info("Emitter for userId {} completed", userId);
-          emitterRepository.deleteById(userId);
-          scheduler.shutdown(); // 스케줄러 종료
+          emitterRepository.deleteById(userId, emitter);
+          sseEmitterWriter.close(emitter);
         });
 
     // 타임아웃 처리
     emitter.onTimeout(
         () -> {
           log.info("Emitter for userId {} timed out", userId);
-          emitterRepository.deleteById(userId);
-          scheduler.shutdown(); // 스케줄러 종료
+          emitterRepository.deleteById(userId, emitter);
+          sseEmitterWriter.close(emitter);
         });
 
     // 에러 발생 처리
     emitter.onError(
         (e) -> {
           log.error("Emitter for userId {} encountered error: {}", userId, e.getMessage());
-          emitterRepository.deleteById(userId);
-          scheduler.shutdown(); // 스케줄러 종료
+          emitterRepository.deleteById(userId, emitter);
+          sseEmitterWriter.close(emitter);
         });
 
+    try {
+      // 클라이언트로 초기 더미 데이터 전송, 이어서 끊겨 있던 동안의 알림 재전송
+      List<SseEmitterWriter.Message> first = new ArrayList<>();
+      first.add(new SseEmitterWriter.Message(null, "INIT", createDummyNotification(user), null));
+      Replay replay = replay(userId, lastEventId);
+      first.addAll(replay.messages());
+      sseEmitterWriter.start(emitter, first, replay.through());
+      log.info("Dummy notification queued for user with userId: {}", userId);
+    } catch (RuntimeException e) {
+      log.error("Error in eventN for userId: {}", userId, e);
+      emitterRepository.deleteById(userId, emitter);
+      sseEmitterWriter.close(emitter);
+      throw e;
+    }
+
+    // keep-alive 는 공용 스케줄러가 주기마다 전송
+    sseHeartbeatScheduler.register(userId);
     return emitter;
   }
 
+  // 재연결 시 먼저 보낼 메시지와 그중 마지막 전달 순번 (재전송이 없으면 Long.MIN_VALUE)
+  private record Replay(List<SseEmitterWriter.Message> messages, long through) {}
+
+  // 메모리 버퍼에서 먼저 찾고, 버퍼가 이미 지나쳤으면 DB 에서 키셋으로 조회
+  private Replay replay(Long userId, String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return new Replay(List.of(), Long.MIN_VALUE);
+    }
+    // SSE 이벤트 id 는 수신자별 전달 순번
+    long afterSeq;
+    try {
+      afterSeq = Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 Last-Event-ID 무시: userId = {}, lastEventId = {}", userId, lastEventId);
+      return new Replay(List.of(), Long.MIN_VALUE);
+    }
+    Optional<List<NotificationResponseDto>> buffered =
+        notificationReplayBuffer.since(userId, afterSeq);
+    if (buffered.isPresent()) {
+      return replayOf(buffered.get(), afterSeq);
+    }
+    List<NotificationResponseDto> missed =
+        notificationRepository
+            .findAfter(userId, afterSeq, false, Limit.of(MAX_REPLAY_FROM_DB + 1))
+            .stream()
+            .map(NotificationResponseDto::new)
+            .toList();
+    if (missed.size() <= MAX_REPLAY_FROM_DB) {
+      return replayOf(missed, afterSeq);
+    }
+    // 일부만 보내고 나머지를 건너뛰는 대신 수신함을 다시 읽게 하고 마지막 순번부터 이어 감
+    long lastSeq = notificationRepository.findLastDeliverySeq(userId);
+    log.info("놓친 알림이 {}건을 넘어 resync 전송: userId = {}", MAX_REPLAY_FROM_DB, userId);
+    return new Replay(
+        List.of(new SseEmitterWriter.Message(String.valueOf(lastSeq), "resync", "inbox", null)),
+        lastSeq);
+  }
+
+  private static Replay replayOf(List<NotificationResponseDto> missed, long afterSeq) {
+    List<SseEmitterWriter.Message> messages =
+        missed.stream().map(SseNotificationSender::toMessage).toList();
+    long through = missed.isEmpty() ? afterSeq : missed.get(missed.size() - 1).getDeliverySeq();
+    return new Replay(messages, through);
+  }
+
   // 더미데이터를 생성
   private Notification createDummyNotification(User user) {
     return Notification.builder()
@@ -131,87 +186,70 @@ public class NotificationService {
         .build();
   }
 
-  public NotificationResponseDto sendNotification(String loginId, NotificationDto dto) {
-    User user = getUserByLoginId(loginId);
-    Long userId = user.getId();
-
-    // Notification 저장
-    Notification notification = notificationRepository.save(dto.ToEntity(user));
-    log.info("Notification created for user {}: {}", loginId, notification);
-
-    NotificationResponseDto responseDto = new NotificationResponseDto(notification);
-
-    // 알림 전송
-    SseEmitter emitter = emitterRepository.get(userId);
-    if (emitter != null) {
-      try {
-        emitter.send(SseEmitter.event().name("notification").data(responseDto));
-        log.info("Sent notification to userId {}: {}", userId, responseDto);
-      } catch (IOException e) {
-        log.error("Failed to send notification to emitter {}: {}", userId, e.getMessage());
-        emitterRepository.deleteById(userId);
-        emitter.completeWithError(e);
-      }
-    } else {
-      log.warn(
-          "No emitter found for user ID: {}. Notification will be queued.",
-          userId); // 큐에 저장하도록 추후 수정
-    }
-    return responseDto;
+  /*
+   * 알림 요청
+   * - 호출한 트랜잭션 안에서 아웃박스에 기록하므로 도메인 변경이 롤백되면 알림도 남지 않음
+   * - 실제 저장과 전송은 커밋 후 NotificationOutboxRelay 가 처리하고 요청 스레드는 바로 반환
+   */
+  // 일정 확정 시 그룹 이벤트의 모든 참여자에게 알림 전송
+  public void eventFixedNotify(Long calendarId) {
+    requestNotification(new NotificationRequestedEvent(NotificationType.EVENT_FIXED, calendarId));
   }
 
-  // Emitter 생성 메서드
-  private SseEmitter createEmitter(Long userId) {
-    SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-    emitterRepository.save(userId, emitter);
+  // 이벤트 생성 시 가능한 시간 설정 알림, 모든 참여자에게
+  public void eventCreatedNotify(Long calendarId) {
+    requestNotification(new NotificationRequestedEvent(NotificationType.EVENT_CREATED, calendarId));
+  }
 
-    emitter.onCompletion(() -> emitterRepository.deleteById(userId));
-    emitter.onTimeout(() -> emitterRepository.deleteById(userId));
+  // 주최자에게 일정 확정 알림, 모든 사용자가 완료하였을 때, 즉 모든 참여자가 일정을 확정했을 때
+  public void eventSelectedNotify(Long calendarId) {
+    requestNotification(
+        new NotificationRequestedEvent(NotificationType.MUST_FIX_EVENT, calendarId));
+  }
 
-    return emitter;
+  // 바로 처리하지 않고 묶음 대기 시간 뒤에 처리 (연속된 요청을 합치기 위함)
+  private void requestNotification(NotificationRequestedEvent event) {
+    notificationOutboxStore.append(event, notificationCoalescer.windowMillis());
+    eventPublisher.publishEvent(event); // 커밋 후 처리기를 깨움
   }
 
-  // 클라이언트에게 데이터 전송 메서드 (다형성 통합)
-  private <T> void sendToClient(Long userId, T data, String comment, String type) {
-    SseEmitter emitter = emitterRepository.get(userId);
-    if (emitter != null) {
-      try {
-        emitter.send(
-            SseEmitter.event().id(String.valueOf(userId)).name(type).data(data).comment(comment));
-        log.info("Sent event to emitter {}: {}", userId, data);
-      } catch (IOException e) {
-        emitterRepository.deleteById(userId);
-        emitter.completeWithError(e);
-        log.error("Failed to send event to emitter {}: {}", userId, e.getMessage());
+  // 알림 요청들의 수신자별 알림을 합쳐 saveAll 한 번으로 저장하고 저장된 알림을 반환
+  @Transactional
+  public List<Notification> persistFanOut(List<NotificationRequestedEvent> events) {
+    List<NotificationCoalescer.Item> items = new ArrayList<>();
+    for (NotificationRequestedEvent event : events) {
+      FanOut fanOut =
+          switch (event.type()) {
+            case EVENT_CREATED -> eventCreatedFanOut(event.calendarId());
+            case EVENT_FIXED -> eventFixedFanOut(event.calendarId());
+            case MUST_FIX_EVENT -> eventSelectedFanOut(event.calendarId());
+            case DUMMY -> throw new IllegalArgumentException("지원하지 않는 알림 유형입니다: " + event.type());
+          };
+      for (User receiver : fanOut.receivers()) {
+        items.add(new NotificationCoalescer.Item(receiver, fanOut.dto()));
       }
-    } else {
-      log.warn("No emitter found for user ID: {}", userId);
     }
-  }
-
-  // 클라이언트에게 알림 전송 메서드 (별도의 emitter 전달)
-  private synchronized void sendToClient(
-      SseEmitter emitter, String emitterId, Object data, String type) {
-    try {
-      emitter.send(
-          SseEmitter.event().id(emitterId).name(type).data(data, MediaType.APPLICATION_JSON));
-      log.info("Sent event to emitter {}: {}", emitterId, data);
-    } catch (IOException e) {
-      emitter.completeWithError(e);
-      emitterRepository.deleteById(Long.parseLong(emitterId.split("_")[0]));
-      log.error("Failed to send event to emitter {}: {}", emitterId, e.getMessage());
+    List<Notification> merged = notificationCoalescer.merge(items);
+    notificationDeliverySequence.assign(merged);
+    List<Notification> notifications = notificationRepository.saveAll(merged);
+    // 커밋 후 읽지 않은 알림 수에 반영
+    Map<Long, Integer> unread = new HashMap<>();
+    for (Notification notification : notifications) {
+      unread.merge(notification.getUser().getId(), 1, Integer::sum);
     }
+    eventPublisher.publishEvent(new NotificationUnreadChangedEvent(unread));
+    log.info(
+        "알림 저장 완료: 요청 {}건, 수신자별 알림 {}건을 {}건으로 저장",
+        events.size(),
+        items.size(),
+        notifications.size());
+    return notifications;
   }
 
-  // 유저 확인 및 반환
-  private User getUserByLoginId(String loginId) {
-    return userRepository
-        .findByLoginId(loginId)
-        .orElseThrow(() -> new RuntimeException("회원이 존재하지 않습니다."));
-  }
+  // 알림 내용과 수신자 목록
+  private record FanOut(NotificationDto dto, List<User> receivers) {}
 
-  // 일정 확정 시 그룹 이벤트의 모든 참여자에게 알림 전송
-  public void eventFixedNotify(Long calendarId) {
+  private FanOut eventFixedFanOut(Long calendarId) {
     GroupCalendar groupCalendar =
         groupCalendarRepository
             .findById(calendarId)
@@ -235,26 +273,22 @@ public class NotificationService {
     dto.setDetails2(duration.toString());
     dto.setType(NotificationType.EVENT_FIXED); // 알림 유형 설정
     dto.setCalendarId(calendarId);
-    dto.setGroupId(groupEvent.getId());
+    dto.setGroupId(groupCalendar.getGroup().getGroupId());
 
     // 그룹 캘린더 참가자 목록
     List<GroupCalendarParticipant> participants =
         groupCalendarParticipantRepository.findAllByCalendarId(groupEvent.getCalendarId());
 
-    // 각 참가자에게 알림 전송
+    List<User> receivers = new ArrayList<>();
     for (GroupCalendarParticipant participant : participants) {
       User user = participant.getUser(); // user 객체 추출
       if (user != null) {
-        Long userId = user.getId();
-        // 알림 생성 및 저장
-        Notification notification = notificationRepository.save(dto.ToEntity(user));
-        // SseEmitter를 통해 사용자에게 알림 전송
-        sendNotification(user.getLoginId(), dto);
-        log.info("참여자에게 알림 전송: userId = {}, event = {}", user.getId(), dto.getEventName());
+        receivers.add(user);
       } else {
         log.warn("User not found for participant in Calendar ID: {}", calendarId);
       }
     }
+    return new FanOut(dto, receivers);
   }
 
   // 소요 시간을 포맷팅하는 메서드
@@ -277,9 +311,7 @@ public class NotificationService {
     return startDate.format(formatter) + " ~ " + endDate.format(formatter);
   }
 
-  // 이벤트 생성 시 가능한 시간 설정 알림, 모든 참여자에게
-  public void eventCreatedNotify(Long calendarId) {
-
+  private FanOut eventCreatedFanOut(Long calendarId) {
     GroupCalendar groupEvent =
         groupCalendarRepository
             .findById(calendarId)
@@ -299,26 +331,15 @@ public class NotificationService {
     dto.setCalendarId(groupEvent.getId());
     dto.setGroupId(groupEvent.getGroup().getGroupId());
 
-    // 그룹 캘린더 참가자 목록
-    List<GroupCalendarParticipant> participants =
-        groupCalendarParticipantRepository.findByCalendarId(groupEvent.getId());
-
-    // 각 참가자에게 알림 전송
-    for (GroupCalendarParticipant participant : participants) {
-      User user = participant.getUser();
-      Long userId = user.getId();
-      if (user != null) {
-        // 알림 생성 및 저장
-        Notification notification = notificationRepository.save(dto.ToEntity(user));
-        sendNotification(user.getLoginId(), dto);
-      } else {
-        log.warn("User not found for ID: {}", userId);
-      }
-    }
+    // 그룹 캘린더 참가자 전원
+    List<User> receivers =
+        groupCalendarParticipantRepository.findByCalendarId(groupEvent.getId()).stream()
+            .map(GroupCalendarParticipant::getUser)
+            .toList();
+    return new FanOut(dto, receivers);
   }
 
-  // 주최자에게 일정 확정 알림, 모든 사용자가 완료하였을 때, 즉 모든 참여자가 일정을 확정했을 때
-  public void eventSelectedNotify(Long calendarId) {
+  private FanOut eventSelectedFanOut(Long calendarId) {
     GroupCalendar groupEvent =
         groupCalendarRepository
             .findById(calendarId)
@@ -334,9 +355,6 @@ public class NotificationService {
     dto.setType(NotificationType.MUST_FIX_EVENT); // 알림 유형 설정
     dto.setCalendarId(groupEvent.getId());
     dto.setGroupId(groupEvent.getGroup().getGroupId());
-    // 알림 생성 및 저장
-    Notification notification = notificationRepository.save(dto.ToEntity(creator));
-    // SseEmitter를 통해 사용자에게 알림 전송
-    sendNotification(creator.getLoginId(), dto);
+    return new FanOut(dto, List.of(creator));
   }
 }
@@ -0,0 +1,11 @@
+package goblin.app.Notification.service;
+
+import java.util.Map;
+
+// 사용자별 읽지 않은 알림 수 변화 (알림 저장 시 +, 읽음 처리 시 -)
+public record NotificationUnreadChangedEvent(Map<Long, Integer> deltas) {
+
+  public static NotificationUnreadChangedEvent of(Long userId, int delta) {
+    return new NotificationUnreadChangedEvent(Map.of(userId, delta));
+  }
+}
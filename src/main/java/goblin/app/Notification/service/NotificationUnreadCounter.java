@@ -0,0 +1,126 @@
+package goblin.app.Notification.service;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import goblin.app.Notification.model.entity.NotificationRepository;
+
+/*
+ * 사용자별 읽지 않은 알림 수 (배지 표시용)
+ * - 처음 조회할 때 COUNT 로 적재하고, 이후에는 커밋된 변화량(NotificationUnreadChangedEvent)으로 갱신
+ * - 변화량은 커밋한 노드에만 전달되므로 적재 후 ttl-seconds 가 지나면 다시 적재 (다른 노드의 변화는 그만큼 늦게 반영)
+ * - 적재 쿼리가 도는 동안 같은 사용자의 변화가 커밋되면 그 결과는 캐시하지 않음 (다음 조회에서 다시 적재)
+ *   트랜잭션 안에서 호출할 때는 첫 조회여야 함 (앞선 조회로 스냅샷이 잡히면 그 사이 커밋된 변화를 놓침)
+ * - 최대 max-users 명, 넘치면 LRU 로 제거
+ */
+@Component
+@Slf4j
+public class NotificationUnreadCounter {
+
+  private final NotificationRepository notificationRepository;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final LinkedHashMap<Long, Cached> counts;
+  // 적재 중인 사용자별 쿼리 수, 적재 중에 변화가 커밋된 사용자
+  private final Map<Long, Integer> loading = new HashMap<>();
+  private final Set<Long> staleLoads = new HashSet<>();
+
+  @Autowired
+  public NotificationUnreadCounter(
+      NotificationRepository notificationRepository,
+      @Value("${notification.unread.max-users:10000}") int maxUsers,
+      @Value("${notification.unread.ttl-seconds:60}") long ttlSeconds) {
+    this(notificationRepository, maxUsers, ttlSeconds * 1000, Clock.systemUTC());
+  }
+
+  NotificationUnreadCounter(
+      NotificationRepository notificationRepository, int maxUsers, long ttlMillis, Clock clock) {
+    this.notificationRepository = notificationRepository;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.counts =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+            return size() > maxUsers;
+          }
+        };
+  }
+
+  public long unreadCount(Long userId) {
+    synchronized (counts) {
+      Cached cached = counts.get(userId);
+      if (cached != null && clock.millis() - cached.loadedAt < ttlMillis) {
+        return cached.count;
+      }
+      // 만료된 값은 지워야 적재 중에 커밋된 변화가 staleLoads 로 기록됨
+      counts.remove(userId);
+      loading.merge(userId, 1, Integer::sum);
+    }
+
+    long loadedAt = clock.millis();
+    long loaded;
+    try {
+      loaded = notificationRepository.countByRead(userId, false, false);
+    } catch (RuntimeException e) {
+      synchronized (counts) {
+        finishLoad(userId);
+      }
+      throw e;
+    }
+    synchronized (counts) {
+      boolean stale = staleLoads.contains(userId);
+      finishLoad(userId);
+      if (!stale) {
+        counts.put(userId, new Cached(loaded, loadedAt));
+      }
+    }
+    return loaded;
+  }
+
+  // 트랜잭션이 없으면 바로, 있으면 커밋 후 반영
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUnreadChanged(NotificationUnreadChangedEvent event) {
+    synchronized (counts) {
+      event
+          .deltas()
+          .forEach(
+              (userId, delta) -> {
+                Cached cached = counts.get(userId);
+                if (cached != null) {
+                  counts.put(
+                      userId, new Cached(Math.max(0, cached.count + delta), cached.loadedAt));
+                } else if (loading.containsKey(userId)) {
+                  staleLoads.add(userId);
+                }
+              });
+    }
+  }
+
+  public int size() {
+    synchronized (counts) {
+      return counts.size();
+    }
+  }
+
+  private void finishLoad(Long userId) {
+    if (loading.merge(userId, -1, Integer::sum) == 0) {
+      loading.remove(userId);
+      staleLoads.remove(userId);
+    }
+  }
+
+  private record Cached(long count, long loadedAt) {}
+}
@@ -0,0 +1,411 @@
+package goblin.app.Notification.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import goblin.app.Notification.model.entity.EmitterRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * emitter 별 전송 큐와 writer
+ * - 보내는 쪽(알림 전송, keep-alive)은 큐에 넣기만 하고 바로 돌아감
+ * - emitter 마다 한 번에 writer 하나만 sseDeliveryExecutor 에서 큐를 비움 (순서 유지)
+ * - writer 는 한 번에 최대 drainBatch 건만 보내고 다시 줄을 서서 다른 emitter 와 스레드를 나눠 씀
+ * - 느린 연결은 자기 큐만 차고 다른 사용자 전송을 막지 않음, 큐가 차면 overflowPolicy 대로 처리
+ *   - GAP: 대기 메시지를 모두 버리고 gap 이벤트를 보낸 뒤 연결을 끊음
+ *     버린 메시지는 보내지 않았으므로 클라이언트의 Last-Event-ID 는 마지막으로 받은 순번에 머물고,
+ *     재연결하면 그 뒤부터 버퍼/DB 에서 다시 받음 (중간만 빠진 채 다음 순번으로 넘어가지 않음)
+ *   - COALESCE: 같은 종류(coalesceKey)의 대기 메시지를 새 메시지로 교체, 없으면 GAP 처럼 처리
+ *     교체된 알림은 실시간으로는 전달되지 않고 재연결해도 다시 오지 않음 (수신함에만 남음)
+ *   - DISCONNECT: 바로 연결을 끊어 클라이언트가 Last-Event-ID 로 재연결하게 함
+ * - 새 구독은 open 으로 큐를 먼저 만들어 실시간 알림을 모아 두고, start 로 INIT 과 재전송분을 그 앞에 넣은 뒤 전송 시작
+ *   => 재전송과 실시간 알림이 같은 큐로 순서대로 나가고, 재전송한 순번 이하의 실시간 알림은 중복이라 버림
+ * - keep-alive 는 큐가 비어 있을 때만 넣음
+ * - 큐 길이는 sse.outbound.queue.depth, 버린 메시지는 sse.outbound.dropped(reason) 지표로 노출
+ */
+@Component
+@Slf4j
+public class SseEmitterWriter {
+
+  public enum OverflowPolicy {
+    GAP,
+    COALESCE,
+    DISCONNECT
+  }
+
+  // 전송할 SSE 이벤트 (coalesceKey 가 null 이면 합치지 않음)
+  public record Message(String id, String name, Object data, String coalesceKey) {
+
+    SseEmitter.SseEventBuilder toEvent() {
+      SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+      return id == null ? event : event.id(id);
+    }
+  }
+
+  // 큐가 넘쳐 알림을 버렸음을 알리는 마지막 이벤트 (id 가 없어 Last-Event-ID 를 바꾸지 않음)
+  static final Message GAP = new Message(null, "gap", "reconnect", null);
+
+  private final EmitterRepository emitterRepository;
+  private final Executor executor;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final int drainBatch;
+
+  private final Map<SseEmitter, Channel> channels = new ConcurrentHashMap<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final LongAdder droppedOverflow = new LongAdder();
+  private final LongAdder droppedCoalesced = new LongAdder();
+  private final LongAdder disconnects = new LongAdder();
+
+  @Autowired
+  public SseEmitterWriter(
+      EmitterRepository emitterRepository,
+      @Qualifier("sseDeliveryExecutor") Executor executor,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${sse.outbound.capacity:256}") int capacity,
+      @Value("${sse.outbound.overflow-policy:GAP}") OverflowPolicy overflowPolicy,
+      @Value("${sse.outbound.drain-batch:32}") int drainBatch) {
+    this(emitterRepository, executor, capacity, overflowPolicy, drainBatch);
+    meterRegistry.ifAvailable(this::bindTo);
+  }
+
+  SseEmitterWriter(
+      EmitterRepository emitterRepository,
+      Executor executor,
+      int capacity,
+      OverflowPolicy overflowPolicy,
+      int drainBatch) {
+    if (capacity < 1 || drainBatch < 1) {
+      throw new IllegalArgumentException(
+          "전송 큐 크기와 배치 크기는 1 이상이어야 합니다: " + capacity + ", " + drainBatch);
+    }
+    this.emitterRepository = emitterRepository;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.drainBatch = drainBatch;
+  }
+
+  void bindTo(MeterRegistry registry) {
+    Gauge.builder("sse.outbound.queue.depth", queued, AtomicInteger::get)
+        .description("모든 emitter 전송 큐에 쌓인 메시지 수")
+        .register(registry);
+    Gauge.builder("sse.outbound.channels", channels, Map::size)
+        .description("전송 큐가 열려 있는 emitter 수")
+        .register(registry);
+    FunctionCounter.builder("sse.outbound.dropped", droppedOverflow, LongAdder::sum)
+        .tag("reason", "overflow")
+        .description("큐가 가득 차 버린 메시지 수")
+        .register(registry);
+    FunctionCounter.builder("sse.outbound.dropped", droppedCoalesced, LongAdder::sum)
+        .tag("reason", "coalesced")
+        .description("같은 종류의 새 메시지로 교체된 메시지 수")
+        .register(registry);
+    FunctionCounter.builder("sse.outbound.disconnects", disconnects, LongAdder::sum)
+        .description("큐가 가득 차 끊은 연결 수")
+        .register(registry);
+  }
+
+  // 구독 등록 전에 호출, start 전까지 들어온 메시지는 보내지 않고 큐에 모아 둠
+  public void open(Long userId, SseEmitter emitter) {
+    channels.put(emitter, new Channel(userId, emitter, true));
+  }
+
+  /*
+   * first(INIT, 재전송분)를 모아 둔 실시간 메시지 앞에 넣고 전송 시작
+   * - replayedThrough 이하 순번의 메시지는 first 로 이미 보냈으므로 지금 큐에 있든 나중에 오든 버림
+   */
+  public void start(SseEmitter emitter, List<Message> first, long replayedThrough) {
+    Channel channel = channels.get(emitter);
+    if (channel != null) {
+      channel.start(first, replayedThrough);
+      schedule(channel);
+    }
+  }
+
+  // 큐에 넣고 writer 가 없으면 예약, 보내는 쪽 스레드는 네트워크를 기다리지 않음
+  public void enqueue(Long userId, SseEmitter emitter, Message message) {
+    offer(userId, emitter, message, false);
+  }
+
+  // keep-alive 는 큐가 비어 있을 때만 넣음 (대기 중인 메시지가 있으면 그게 연결 유지 역할을 함)
+  public void enqueueIfIdle(Long userId, SseEmitter emitter, Message message) {
+    offer(userId, emitter, message, true);
+  }
+
+  private void offer(Long userId, SseEmitter emitter, Message message, boolean onlyIfIdle) {
+    Channel channel = channels.computeIfAbsent(emitter, key -> new Channel(userId, key, false));
+    if (channel.offer(message, onlyIfIdle)) {
+      schedule(channel);
+    }
+  }
+
+  // emitter 가 끝났을 때 남은 큐를 정리 (완료/타임아웃/에러 콜백에서 호출)
+  public void close(SseEmitter emitter) {
+    Channel channel = channels.remove(emitter);
+    if (channel != null) {
+      channel.clear();
+    }
+  }
+
+  int depth(SseEmitter emitter) {
+    Channel channel = channels.get(emitter);
+    return channel == null ? 0 : channel.size();
+  }
+
+  int queuedCount() {
+    return queued.get();
+  }
+
+  long droppedCount() {
+    return droppedOverflow.sum() + droppedCoalesced.sum();
+  }
+
+  long disconnectCount() {
+    return disconnects.sum();
+  }
+
+  private void schedule(Channel channel) {
+    if (!channel.claimWriter()) {
+      return;
+    }
+    try {
+      executor.execute(() -> drain(channel));
+    } catch (RejectedExecutionException e) {
+      // 실행기가 가득 참, 메시지는 큐에 남겨 두고 다음 enqueue 때 다시 예약
+      channel.releaseWriter();
+      log.warn("SSE writer 예약 실패, 다음 전송 때 재시도: userId = {}", channel.userId);
+    }
+  }
+
+  private void drain(Channel channel) {
+    for (int sent = 0; sent < drainBatch; sent++) {
+      Message message = channel.poll();
+      if (message == null) {
+        break;
+      }
+      try {
+        channel.emitter.send(message.toEvent());
+        if (message == GAP) {
+          disconnect(channel);
+          channel.emitter.complete();
+          return;
+        }
+      } catch (IOException | IllegalStateException e) {
+        // 연결이 끊겼거나 이미 완료된 emitter
+        log.debug("SSE 전송 실패로 구독 제거: userId = {}, {}", channel.userId, e.getMessage());
+        disconnect(channel);
+        channel.emitter.completeWithError(e);
+        return;
+      }
+    }
+    channel.releaseWriter();
+    // 내려놓는 사이에 들어온 메시지가 있으면 다시 예약
+    if (channel.size() > 0 && channels.get(channel.emitter) == channel) {
+      schedule(channel);
+    }
+  }
+
+  private void disconnect(Channel channel) {
+    channels.remove(channel.emitter, channel);
+    channel.clear();
+    emitterRepository.deleteById(channel.userId, channel.emitter);
+  }
+
+  private final class Channel {
+    private final Long userId;
+    private final SseEmitter emitter;
+    // 큐와 writer 상태를 보호, 네트워크 전송 중에는 잡지 않음
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Message> queue = new ArrayDeque<>();
+    private boolean writing;
+    private boolean overflowLogged;
+    // start 전이면 writer 를 예약하지 않음
+    private boolean holding;
+    // GAP 을 넣은 뒤에는 연결을 끊을 때까지 새 메시지를 받지 않음
+    private boolean gapped;
+    // 재연결 시 다시 보낸 마지막 순번 (메시지 id 가 전달 순번)
+    private long replayedThrough = Long.MIN_VALUE;
+
+    private Channel(Long userId, SseEmitter emitter, boolean holding) {
+      this.userId = userId;
+      this.emitter = emitter;
+      this.holding = holding;
+    }
+
+    private void start(List<Message> first, long through) {
+      lock.lock();
+      try {
+        replayedThrough = through;
+        for (Iterator<Message> it = queue.iterator(); it.hasNext(); ) {
+          if (replayed(it.next())) {
+            it.remove();
+            queued.decrementAndGet();
+          }
+        }
+        for (int i = first.size() - 1; i >= 0; i--) {
+          queue.addFirst(first.get(i));
+          queued.incrementAndGet();
+        }
+        holding = false;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean replayed(Message message) {
+      return replayedThrough != Long.MIN_VALUE
+          && message.id() != null
+          && Long.parseLong(message.id()) <= replayedThrough;
+    }
+
+    // 큐에 넣었으면 true, 연결을 끊었으면 false
+    private boolean offer(Message message, boolean onlyIfIdle) {
+      lock.lock();
+      try {
+        if (onlyIfIdle && !queue.isEmpty() || replayed(message)) {
+          return true;
+        }
+        if (gapped) {
+          if (message.id() != null) {
+            droppedOverflow.increment();
+          }
+          return true;
+        }
+        if (queue.size() < capacity) {
+          push(message);
+          return true;
+        }
+        boolean coalesced = overflowPolicy == OverflowPolicy.COALESCE && replace(message);
+        if (!coalesced && overflowPolicy != OverflowPolicy.DISCONNECT) {
+          gap(message);
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (!overflowLogged) {
+        overflowLogged = true;
+        log.warn(
+            "느린 SSE 연결, 전송 큐 가득 참 ({}건, 정책 {}): userId = {}", capacity, overflowPolicy, userId);
+      }
+      if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+        disconnects.increment();
+        disconnect(this);
+        emitter.complete();
+        return false;
+      }
+      return true;
+    }
+
+    // 같은 coalesceKey 의 대기 메시지를 빼고 새 메시지를 뒤에 넣음
+    private boolean replace(Message message) {
+      if (message.coalesceKey() == null) {
+        return false;
+      }
+      for (Iterator<Message> it = queue.iterator(); it.hasNext(); ) {
+        if (message.coalesceKey().equals(it.next().coalesceKey())) {
+          it.remove();
+          queue.addLast(message);
+          droppedCoalesced.increment();
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void push(Message message) {
+      queue.addLast(message);
+      queued.incrementAndGet();
+    }
+
+    // 대기 메시지와 새 메시지를 버리고 GAP 만 남김 (지표에는 id 가 있는 알림만 셈)
+    private void gap(Message message) {
+      for (Message dropped : queue) {
+        if (dropped.id() != null) {
+          droppedOverflow.increment();
+        }
+      }
+      if (message.id() != null) {
+        droppedOverflow.increment();
+      }
+      queued.addAndGet(-queue.size());
+      queue.clear();
+      push(GAP);
+      gapped = true;
+    }
+
+    private Message poll() {
+      lock.lock();
+      try {
+        Message message = queue.pollFirst();
+        if (message != null) {
+          queued.decrementAndGet();
+        }
+        return message;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int size() {
+      lock.lock();
+      try {
+        return queue.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void clear() {
+      lock.lock();
+      try {
+        queued.addAndGet(-queue.size());
+        queue.clear();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean claimWriter() {
+      lock.lock();
+      try {
+        if (writing || holding) {
+          return false;
+        }
+        writing = true;
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void releaseWriter() {
+      lock.lock();
+      try {
+        writing = false;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package goblin.app.Notification.service;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import goblin.app.Notification.model.entity.EmitterRepository;
+
+/*
+ * 모든 SSE 구독자가 함께 쓰는 keep-alive 스케줄러
+ * - 구독자마다 스레드를 두지 않고, 스레드 하나가 tick 마다 타이밍 휠의 한 칸(구독자 묶음)만 처리
+ * - 휠 한 바퀴가 keep-alive 주기이므로 각 구독자는 주기마다 한 번씩 keep-alive 를 받음
+ * - 휠은 사용자 단위, 한 사용자의 여러 기기 구독에 모두 keep-alive 를 보냄
+ * - 실제 전송은 SseEmitterWriter 가 하므로 느린 연결이 순회를 막지 않음 (끊긴 연결 정리도 writer 가 처리)
+ * - 구독이 하나도 남지 않은 사용자는 휠에서 제거
+ */
+@Component
+@Slf4j
+public class SseHeartbeatScheduler {
+
+  private static final SseEmitterWriter.Message KEEP_ALIVE =
+      new SseEmitterWriter.Message(null, "keep-alive", "keep-alive", null);
+
+  private final EmitterRepository emitterRepository;
+  private final SseEmitterWriter sseEmitterWriter;
+  private final long tickMillis;
+  private final TimingWheel<Long> wheel;
+  private final ScheduledExecutorService ticker;
+
+  public SseHeartbeatScheduler(
+      EmitterRepository emitterRepository,
+      SseEmitterWriter sseEmitterWriter,
+      @Value("${sse.heartbeat.interval-seconds:30}") long intervalSeconds,
+      @Value("${sse.heartbeat.tick-millis:1000}") long tickMillis) {
+    this.emitterRepository = emitterRepository;
+    this.sseEmitterWriter = sseEmitterWriter;
+    this.tickMillis = tickMillis;
+    this.wheel = new TimingWheel<>((int) Math.max(1, intervalSeconds * 1000 / tickMillis));
+    this.ticker =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "sse-heartbeat");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PostConstruct
+  void start() {
+    ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    ticker.shutdownNow();
+  }
+
+  // 구독 시작 시 등록 (해제는 순회 중 끊긴 구독을 발견했을 때 처리)
+  public void register(Long userId) {
+    wheel.add(userId);
+  }
+
+  public int subscriberCount() {
+    return wheel.size();
+  }
+
+  void tick() {
+    // 예외가 밖으로 나가면 scheduleAtFixedRate 가 멈추므로 여기서 모두 처리
+    try {
+      List<Long> batch = wheel.advance();
+      int idle = 0;
+      for (Long userId : batch) {
+        List<SseEmitter> devices = emitterRepository.findAllByUserId(userId);
+        if (devices.isEmpty()) {
+          // 남은 기기가 없으면 휠에서 제거 (다시 구독하면 register 로 들어옴)
+          wheel.remove(userId);
+          idle++;
+          continue;
+        }
+        for (SseEmitter emitter : devices) {
+          sseEmitterWriter.enqueueIfIdle(userId, emitter, KEEP_ALIVE);
+        }
+      }
+      if (idle > 0) {
+        log.info("keep-alive 순회: 대상 {}명, 구독이 끝난 사용자 {}명 제거", batch.size(), idle);
+      }
+    } catch (RuntimeException e) {
+      log.error("keep-alive 순회 중 오류", e);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package goblin.app.Notification.service;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+import goblin.app.Notification.model.entity.EmitterRepository;
+
+/*
+ * 이 노드에서 알림을 전송 (NotificationBus 가 노드마다 호출)
+ * - 재연결 시 다시 보낼 수 있도록 재연결용 버퍼에 먼저 기록
+ *   (MySQL 버스는 이 노드에 구독 중인 수신자만 보내므로 버퍼에 빠진 순번은 재연결 시 DB 에서 조회)
+ * - 이 노드에 연결된 사용자의 모든 기기 전송 큐에 넣음 (실제 전송은 SseEmitterWriter)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseNotificationSender {
+
+  private final EmitterRepository emitterRepository;
+  private final SseEmitterWriter sseEmitterWriter;
+  private final NotificationReplayBuffer notificationReplayBuffer;
+
+  public void send(Long userId, NotificationResponseDto notification) {
+    notificationReplayBuffer.append(userId, notification);
+    List<SseEmitter> devices = emitterRepository.findAllByUserId(userId);
+    if (devices.isEmpty()) {
+      log.debug("구독 중이 아닌 사용자, SSE 전송 생략: userId = {}", userId);
+      return;
+    }
+    SseEmitterWriter.Message message = toMessage(notification);
+    for (SseEmitter emitter : devices) {
+      sseEmitterWriter.enqueue(userId, emitter, message);
+    }
+    log.debug(
+        "Queued notification {} for userId {} on {} device(s)",
+        notification.getId(),
+        userId,
+        devices.size());
+  }
+
+  // 큐가 차서 합칠 때는 같은 그룹, 같은 종류의 알림끼리 최신 것만 남김
+  static SseEmitterWriter.Message toMessage(NotificationResponseDto notification) {
+    return new SseEmitterWriter.Message(
+        String.valueOf(notification.getDeliverySeq()),
+        "notification",
+        notification,
+        notification.getType() + ":" + notification.getGroupId());
+  }
+}
@@ -0,0 +1,56 @@
+package goblin.app.Notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 고정 크기 해시 타이밍 휠
+ * - 키를 등록 시점의 칸에 넣고, advance() 가 한 칸씩 돌며 그 칸의 키 묶음을 돌려줌
+ * - 한 바퀴(size 칸)마다 각 키가 정확히 한 번 나오므로 작업이 주기 전체에 고르게 퍼짐
+ * - advance() 는 한 스레드에서만 호출, add/remove 는 어느 스레드에서나 호출 가능
+ */
+final class TimingWheel<K> {
+
+  private final List<Set<K>> buckets;
+  private final Map<K, Integer> slotOf = new ConcurrentHashMap<>();
+  private volatile int cursor;
+
+  TimingWheel(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("타이밍 휠 크기는 1 이상이어야 합니다: " + size);
+    }
+    buckets = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      buckets.add(ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  // 방금 처리한 칸에 넣어 한 바퀴 뒤에 처음 나오게 함 (이미 있으면 그대로 둠)
+  void add(K key) {
+    int slot = cursor;
+    if (slotOf.putIfAbsent(key, slot) == null) {
+      buckets.get(slot).add(key);
+    }
+  }
+
+  void remove(K key) {
+    Integer slot = slotOf.remove(key);
+    if (slot != null) {
+      buckets.get(slot).remove(key);
+    }
+  }
+
+  // 다음 칸으로 이동하고 그 칸의 키 목록(복사본)을 반환
+  List<K> advance() {
+    int next = (cursor + 1) % buckets.size();
+    cursor = next;
+    return new ArrayList<>(buckets.get(next));
+  }
+
+  int size() {
+    return slotOf.size();
+  }
+}
@@ -10,12 +10,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import goblin.app.Common.auth.LoginUser;
 import goblin.app.Group.service.GroupService;
 import goblin.app.TODO.model.dto.TODORequestDTO;
 import goblin.app.TODO.model.dto.TODOResponseDTO;
 import goblin.app.TODO.service.TODOService;
-import goblin.app.User.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import goblin.app.User.model.dto.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -27,25 +27,21 @@ public class TODOController {
 
   private final TODOService todoService;
   private final GroupService groupService;
-  private final JwtUtil jwtUtil;
 
   @Operation(summary = "TODO 생성", description = "새로운 TODO를 생성")
   @PostMapping
   public ResponseEntity<TODOResponseDTO> createTODO(
       @PathVariable Long groupId,
       @RequestBody TODORequestDTO request,
-      @RequestHeader("Authorization") String token) {
-
-    // 토큰에서 사용자 로그인 아이디 추출
-    String loginId = extractLoginId(token);
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
     }
 
     // TODO 생성
-    TODOResponseDTO newTodo = todoService.createTODO(groupId, request, token);
+    TODOResponseDTO newTodo = todoService.createTODO(groupId, request, loginUser.getLoginId());
     return ResponseEntity.ok(newTodo);
   }
 
@@ -54,32 +50,25 @@ public class TODOController {
   public ResponseEntity<String> markCompleted(
       @PathVariable Long groupId,
       @PathVariable Long todoId,
-      @RequestHeader("Authorization") String token) {
-
-    // 토큰에서 사용자 로그인 아이디 추출
-    String loginId = extractLoginId(token);
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
     // TODO 완료 처리
-    todoService.markCompleted(todoId, token);
+    todoService.markCompleted(todoId, loginUser.getLoginId());
     return ResponseEntity.ok("TODO가 완료로 표시되었습니다.");
   }
 
   @Operation(summary = "미완료 TODO 목록 조회", description = "아직 완료되지 않은 TODO 목록을 조회")
   @GetMapping("/pending")
   public ResponseEntity<List<TODOResponseDTO>> getPendingTODOs(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    // 토큰에서 loginId 추출
-    String loginId = extractLoginId(bearerToken);
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인하는 로직
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null); // Forbidden 응답
     }
 
@@ -89,14 +78,10 @@ public class TODOController {
   @Operation(summary = "완료된 TODO 목록 조회", description = "완료된 TODO 목록을 조회")
   @GetMapping("/completed")
   public ResponseEntity<List<TODOResponseDTO>> getCompletedTODOs(
-      @PathVariable Long groupId,
-      @RequestHeader(value = "Authorization", required = true) String bearerToken) {
-
-    // 토큰에서 loginId 추출
-    String loginId = extractLoginId(bearerToken);
+      @PathVariable Long groupId, @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인하는 로직
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null); // Forbidden 응답
     }
 
@@ -108,15 +93,15 @@ public class TODOController {
   public ResponseEntity<String> cancelCompleted(
       @PathVariable Long groupId,
       @PathVariable Long todoId,
-      @RequestHeader("Authorization") String token) {
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹 멤버인지 확인하는 로직 필요
-    if (!groupService.isUserInGroup(groupId, extractLoginId(token))) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("그룹 멤버가 아닙니다.");
     }
 
     // TODO 완료 취소 로직
-    todoService.cancelCompleted(todoId, token);
+    todoService.cancelCompleted(todoId, loginUser.getLoginId());
 
     return ResponseEntity.ok("TODO 완료 상태가 취소되었습니다.");
   }
@@ -127,17 +112,15 @@ public class TODOController {
       @PathVariable Long groupId,
       @PathVariable Long todoId,
       @RequestBody TODORequestDTO request,
-      @RequestHeader("Authorization") String token) {
-
-    String loginId = extractLoginId(token);
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
     }
 
     // 투두 수정
-    TODOResponseDTO updatedTodo = todoService.updateTODO(todoId, request, loginId);
+    TODOResponseDTO updatedTodo = todoService.updateTODO(todoId, request, loginUser.getLoginId());
     return ResponseEntity.ok(updatedTodo);
   }
 
@@ -146,12 +129,10 @@ public class TODOController {
   public ResponseEntity<String> deleteTODO(
       @PathVariable Long groupId,
       @PathVariable Long todoId,
-      @RequestHeader("Authorization") String token) {
-
-    String loginId = extractLoginId(token);
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 그룹의 멤버가 아닙니다.");
     }
 
@@ -165,25 +146,14 @@ public class TODOController {
   public ResponseEntity<List<TODOResponseDTO>> getTODOsByDate(
       @PathVariable Long groupId,
       @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-      @RequestHeader("Authorization") String token) {
-
-    String loginId = extractLoginId(token);
+      @LoginUser AuthenticatedUser loginUser) {
 
     // 그룹에 속해 있는지 확인
-    if (!groupService.isUserInGroup(groupId, loginId)) {
+    if (!groupService.isUserInGroup(groupId, loginUser.getId())) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
     }
 
     List<TODOResponseDTO> todos = todoService.getTODOsByDateRange(groupId, date);
     return ResponseEntity.ok(todos);
   }
-
-  private String extractLoginId(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      return claims.getId(); // 토큰에서 loginId 추출
-    }
-    return null;
-  }
 }
@@ -18,8 +18,6 @@ import goblin.app.TODO.model.dto.TODORequestDTO;
 import goblin.app.TODO.model.dto.TODOResponseDTO;
 import goblin.app.TODO.model.entity.TODO;
 import goblin.app.TODO.repository.TODORepository;
-import goblin.app.User.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 
 @Slf4j
 @Service
@@ -29,7 +27,6 @@ public class TODOService {
 
   private final TODORepository todoRepository;
   private final GroupRepository groupRepository;
-  private final JwtUtil jwtUtil;
 
   public TODOResponseDTO createTODO(Long groupId, TODORequestDTO request, String loginId) {
     Group group =
@@ -110,9 +107,7 @@ public class TODOService {
         todo.getGroup().getGroupName());
   }
 
-  public void cancelCompleted(Long todoId, String token) {
-    String loginId = extractLoginId(token);
-
+  public void cancelCompleted(Long todoId, String loginId) {
     TODO todo =
         todoRepository
             .findById(todoId)
@@ -161,15 +156,6 @@ public class TODOService {
     return todos.stream().map(this::convertToDTO).collect(Collectors.toList());
   }
 
-  private String extractLoginId(String bearerToken) {
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      String token = bearerToken.substring(7);
-      Claims claims = jwtUtil.getAllClaimsFromToken(token);
-      return claims.getId(); // 토큰에서 loginId 추출
-    }
-    return null;
-  }
-
   private int calculateDDay(LocalDateTime dueDateTime) {
     LocalDateTime now = LocalDateTime.now();
     return (int) java.time.Duration.between(now, dueDateTime).toDays();
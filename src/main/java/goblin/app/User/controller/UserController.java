@@ -81,14 +81,14 @@ public class UserController {
       // 로그인 서비스 호출
       String accessToken = userService.loginUser(request.getLoginId(), request.getPassword());
 
-      // Refresh Token 생성 및 저장
-      String userRole = userService.getUserRoleByLoginId(request.getLoginId());
-      String refreshToken = jwtUtil.createRefreshToken(request.getLoginId(), userRole);
-      userService.saveRefreshToken(request.getLoginId(), refreshToken);
-
       // 사용자 정보 가져오기 (닉네임 등)
       User user = userService.findUserByLoginId(request.getLoginId());
 
+      // Refresh Token 생성 및 저장
+      String refreshToken =
+          jwtUtil.createRefreshToken(user.getLoginId(), user.getId(), user.getUserRole());
+      userService.saveRefreshToken(request.getLoginId(), refreshToken);
+
       // "개인" 그룹의 그룹 ID 가져오기
       Group personalGroup = groupService.getOrCreatePersonalGroup(user);
       Long personalGroupId = personalGroup.getGroupId();
@@ -116,9 +116,18 @@ public class UserController {
             .body("Invalid Refresh Token");
       }
       // 새로운 Access Token 생성
+      // 토큰의 권한 클레임이 그대로 인증에 쓰이므로 uid/권한은 요청 값이 아닌 Refresh Token 에서 가져옴
+      Claims refreshClaims = jwtUtil.getAllClaimsFromToken(refreshToken);
+      Long uid = refreshClaims.get(JwtUtil.CLAIM_UID, Long.class);
+      String userRole = refreshClaims.get(JwtUtil.CLAIM_ROLE, String.class);
+      if (uid == null || userRole == null) {
+        // uid 클레임이 없는 예전 Refresh Token
+        User user = userService.findUserByLoginId(request.getLoginId());
+        uid = user.getId();
+        userRole = user.getUserRole();
+      }
       String newAccessToken =
-          jwtUtil.createAccessToken(
-              request.getLoginId(), request.getUsername(), request.getUserRole());
+          jwtUtil.createAccessToken(request.getLoginId(), uid, request.getUsername(), userRole);
       return ResponseEntity.ok(new AuthResponse(newAccessToken));
     } catch (RuntimeException e) {
       // 예외 발생 시 로그 출력
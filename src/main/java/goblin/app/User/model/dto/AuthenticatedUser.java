@@ -0,0 +1,38 @@
+package goblin.app.User.model.dto;
+
+import java.security.Principal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import goblin.app.User.model.entity.User;
+import goblin.app.User.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+
+// SecurityContext 에 올리는 인증된 사용자 정보 (DB 엔티티 대신 토큰 클레임만 보관)
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+  private final Long id; // users.id
+  private final String loginId;
+  private final String role;
+
+  // 검증된 클레임에서 생성, uid/role 클레임이 없는 예전 토큰이면 null
+  public static AuthenticatedUser fromClaims(Claims claims) {
+    Long id = claims.get(JwtUtil.CLAIM_UID, Long.class);
+    String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+    if (id == null || role == null || claims.getId() == null) {
+      return null;
+    }
+    return new AuthenticatedUser(id, claims.getId(), role);
+  }
+
+  public static AuthenticatedUser of(User user) {
+    return new AuthenticatedUser(user.getId(), user.getLoginId(), user.getUserRole());
+  }
+
+  @Override
+  public String getName() {
+    return loginId;
+  }
+}
@@ -1,5 +1,6 @@
 package goblin.app.User.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByLoginId(String loginId);
 
   List<User> findByLoginIdContaining(String loginId); // 부분 일치 검색
+
+  List<User> findAllByLoginIdIn(Collection<String> loginIds); // 여러 loginId 를 한 번에 조회
 }
@@ -0,0 +1,96 @@
+package goblin.app.User.service;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+/*
+ * loginId -> User 조회 캐시 (요청마다 반복되는 findByLoginId 를 줄이기 위함)
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 저장 후 ttl 이 지나면 다시 DB 에서 조회
+ * - 캐시된 User 는 영속성 컨텍스트 밖의 객체이므로 읽기 용도로만 사용
+ * - user-cache.max-size 가 0 이면 캐시 없이 항상 DB 조회
+ */
+@Component
+public class UserCache {
+
+  private final UserRepository userRepository;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final LinkedHashMap<String, Entry> entries;
+
+  @Autowired
+  public UserCache(
+      UserRepository userRepository,
+      @Value("${user-cache.max-size:10000}") int maxSize,
+      @Value("${user-cache.ttl-seconds:300}") long ttlSeconds) {
+    this(userRepository, maxSize, ttlSeconds * 1000, Clock.systemUTC());
+  }
+
+  UserCache(UserRepository userRepository, int maxSize, long ttlMillis, Clock clock) {
+    this.userRepository = userRepository;
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    // accessOrder = true: 조회할 때마다 맨 뒤로 옮겨 LRU 순서 유지
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > UserCache.this.maxSize;
+          }
+        };
+  }
+
+  public Optional<User> findByLoginId(String loginId) {
+    if (loginId == null) {
+      return Optional.empty();
+    }
+    if (maxSize <= 0) {
+      return userRepository.findByLoginId(loginId);
+    }
+
+    long now = clock.millis();
+    synchronized (entries) {
+      Entry entry = entries.get(loginId);
+      if (entry != null && entry.expiresAt > now) {
+        return Optional.of(entry.user);
+      }
+    }
+
+    // DB 조회는 잠금 밖에서 (같은 키가 동시에 조회되면 중복 조회될 수 있으나 결과는 같음)
+    Optional<User> user = userRepository.findByLoginId(loginId);
+    synchronized (entries) {
+      if (user.isPresent()) {
+        entries.put(loginId, new Entry(user.get(), now + ttlMillis));
+      } else {
+        entries.remove(loginId);
+      }
+    }
+    return user;
+  }
+
+  // 사용자 정보가 바뀌거나 삭제되면 호출
+  public void evict(String loginId) {
+    synchronized (entries) {
+      entries.remove(loginId);
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private record Entry(User user, long expiresAt) {}
+}
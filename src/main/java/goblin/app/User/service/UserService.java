@@ -37,6 +37,7 @@ public class UserService implements UserDetailsService {
   private final JwtUtil jwtUtil;
   private final GroupRepository groupRepository;
   private final GroupMemberRepository groupMemberRepository;
+  private final UserCache userCache;
 
   // 회원가입 비지니스 로직
   public UserRegistrationResponseDTO registerUser(
@@ -122,7 +123,8 @@ public class UserService implements UserDetailsService {
             .orElseThrow(() -> new RuntimeException("개인 그룹을 찾을 수 없습니다."));
 
     // 4. JWT 토큰 생성 및 반환
-    return jwtUtil.createAccessToken(user.getLoginId(), user.getUsername(), user.getUserRole());
+    return jwtUtil.createAccessToken(
+        user.getLoginId(), user.getId(), user.getUsername(), user.getUserRole());
   }
 
   // 회원 탈퇴 로직
@@ -135,6 +137,7 @@ public class UserService implements UserDetailsService {
 
     // 사용자 삭제
     userRepository.delete(user);
+    userCache.evict(loginId);
     log.info("회원 탈퇴 성공: 사용자 ID - {}", loginId);
   }
 
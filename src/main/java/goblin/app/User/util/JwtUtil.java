@@ -10,9 +10,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -22,33 +25,48 @@ import io.jsonwebtoken.security.Keys;
 @Slf4j
 @Component
 public class JwtUtil {
-  @Value("${secret-key}")
-  private String secretKey;
+  // 요청마다 DB 를 조회하지 않도록 users.id 와 권한을 토큰에 함께 실음
+  public static final String CLAIM_UID = "uid";
+  public static final String CLAIM_ROLE = "role";
+
+  // 요청 안에서 한 번 검증한 클레임을 보관하는 요청 속성 이름
+  private static final String PARSED_TOKEN_ATTRIBUTE = JwtUtil.class.getName() + ".PARSED_TOKEN";
+
+  // 키와 파서는 만들 때 한 번만 생성 (JwtParser 는 불변이라 여러 스레드에서 공유 가능)
+  private final Key signingKey;
+  private final JwtParser parser;
+
+  public JwtUtil(@Value("${secret-key}") String secretKey) {
+    this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+  }
 
   private Key getSigningKey() {
-    return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    return signingKey;
   }
 
   // Access Token 발급 부분
-  public String createAccessToken(String userId, String userName, String userRole) {
+  public String createAccessToken(String userId, Long uid, String userName, String userRole) {
     Date expireTime = Date.from(Instant.now().plus(23, ChronoUnit.HOURS)); // 23시간 후 만료
     Key key = getSigningKey();
     return Jwts.builder()
         .setId(userId)
         .setSubject(userName) // userName을 subject로 설정
-        .claim("role", userRole) // 역할 정보를 클레임에 추가
+        .claim(CLAIM_UID, uid)
+        .claim(CLAIM_ROLE, userRole) // 역할 정보를 클레임에 추가
         .setIssuedAt(new Date())
         .setExpiration(expireTime)
         .signWith(key, SignatureAlgorithm.HS256)
         .compact();
   }
   // Refresh Token 발급 부분
-  public String createRefreshToken(String userId, String userRole) {
+  public String createRefreshToken(String userId, Long uid, String userRole) {
     Date expireTime = Date.from(Instant.now().plus(7, ChronoUnit.DAYS));
     Key key = getSigningKey();
     return Jwts.builder()
         .setId(userId)
-        .claim("role", userRole)
+        .claim(CLAIM_UID, uid)
+        .claim(CLAIM_ROLE, userRole)
         .setIssuedAt(new Date())
         .setExpiration(expireTime)
         .signWith(key, SignatureAlgorithm.HS256)
@@ -57,12 +75,7 @@ public class JwtUtil {
 
   public boolean validateToken(String token, String username) {
     try {
-      Claims claims =
-          Jwts.parserBuilder()
-              .setSigningKey(getSigningKey())
-              .build()
-              .parseClaimsJws(token)
-              .getBody();
+      Claims claims = parseValidatedClaims(token);
       String extractedUsername = claims.getId();
 
       if (!extractedUsername.equals(username)) {
@@ -94,13 +107,30 @@ public class JwtUtil {
     }
   }
 
+  /*
+   * 서명과 만료를 검증한 클레임 (실패 시 JwtException)
+   * - 요청 처리 중이면 결과를 요청 속성에 보관해, 필터와 컨트롤러가 같은 토큰을 다시 파싱하지 않음
+   */
+  public Claims parseValidatedClaims(String token) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null
+        && attributes.getAttribute(PARSED_TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof ParsedToken parsed
+        && parsed.token().equals(token)) {
+      return parsed.claims();
+    }
+
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    if (attributes != null) {
+      attributes.setAttribute(
+          PARSED_TOKEN_ATTRIBUTE, new ParsedToken(token, claims), RequestAttributes.SCOPE_REQUEST);
+    }
+    return claims;
+  }
+
   // Claims에서 모든 정보 추출
   public Claims getAllClaimsFromToken(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(getSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+    return parseValidatedClaims(token);
   }
 
   // 토큰에서 사용자 이름 추출
@@ -117,4 +147,6 @@ public class JwtUtil {
   public boolean isTokenExpired(String token) {
     return extractExpiration(token).before(new Date());
   }
+
+  private record ParsedToken(String token, Claims claims) {}
 }
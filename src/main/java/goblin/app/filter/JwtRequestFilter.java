@@ -11,17 +11,18 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import goblin.app.User.model.entity.User;
-import goblin.app.User.repository.UserRepository;
+import goblin.app.User.model.dto.AuthenticatedUser;
+import goblin.app.User.service.UserCache;
 import goblin.app.User.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 
 /*
@@ -30,25 +31,27 @@ import io.jsonwebtoken.JwtException;
 * => 요청 헤더에서 JWT 토큰을 추출.
 
 * 2. 토큰 유효성 검사:
-* => 추출한 JWT 토큰의 유효성을 검사 (validate).
+* => 토큰을 한 번만 파싱하며 서명과 만료를 함께 검사 (실패 시 JwtException -> 401).
 
 * 3. 사용자 인증 상태 확인:
-* => 추출한 토큰에서 사용자명을 추출하고,
-* SecurityContextHolder에 인증 정보가 설정되어 있는지 확인.
+* => SecurityContextHolder에 인증 정보가 설정되어 있는지 확인.
 
-* 4. 사용자 정보 조회 및 인증 설정:
+* 4. 인증 설정:
 * => 사용자가 인증되지 않은 상태(SecurityContextHolder.getContext().getAuthentication() == null)
-* 데이터베이스에서 사용자 정보를 조회.
-* JWT 토큰이 유효하고, 데이터베이스에서 사용자를 찾을 수 있으면, UserDetails 객체를 생성.
-* UsernamePasswordAuthenticationToken을 생성 후, SecurityContextHolder에 설정.
+* jwt.stateless-principal 이 켜져 있으면(기본값) 검증된 클레임(loginId, uid, role)으로
+* AuthenticatedUser 를 만들어 DB 조회 없이 SecurityContextHolder에 설정.
+* uid 클레임이 없는 예전 토큰이거나 옵션이 꺼져 있으면 UserCache 를 거쳐 사용자 정보를 조회.
 * */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
   private final JwtUtil jwtUtil;
-  // Repo 를 거쳐 User 를 꺼내오기
-  private final UserRepository userRepository;
+  // 클레임만으로 인증할 수 없을 때 User 를 꺼내오는 캐시
+  private final UserCache userCache;
+
+  @Value("${jwt.stateless-principal:true}")
+  private boolean statelessPrincipal;
 
   @Override
   protected void doFilterInternal(
@@ -57,13 +60,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     try {
       // Authorization 헤더에서 JWT 토큰을 가져옴
       final String authorizationHeader = request.getHeader("Authorization");
-      String username = null;
       String jwt = null;
 
-      // Bearer 토큰인지 확인하고, JWT 토큰에서 Username 추출
+      // Bearer 토큰인지 확인
       if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
         jwt = authorizationHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
       }
 
       /*--------------------------------
@@ -72,25 +73,26 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         2. 잘못된 또는 만료된 토큰
         3. 토큰이 없는 경우:
       ---------------------------------*/
-      if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        // 사용자 정보 조회
-        User user = userRepository.findByLoginId(username).orElse(null);
-        // 사용자가 존재하고, JWT 토큰이 유효하다면
-        if (user != null && jwtUtil.validateToken(jwt, user.getLoginId())) {
-          UserDetails userDetails =
-              new org.springframework.security.core.userdetails.User(
-                  user.getLoginId(),
-                  user.getLoginPw(),
-                  Collections.singletonList(new SimpleGrantedAuthority(user.getUserRole())));
-          // UsernamePasswordAuthenticationToken 생성
-          UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+      if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 서명/만료 검증 포함, 같은 요청의 컨트롤러는 이 결과를 재사용
+        Claims claims = jwtUtil.parseValidatedClaims(jwt);
+        AuthenticatedUser principal =
+            statelessPrincipal ? AuthenticatedUser.fromClaims(claims) : null;
+        if (principal == null) {
+          principal =
+              userCache.findByLoginId(claims.getId()).map(AuthenticatedUser::of).orElse(null);
+        }
+
+        if (principal != null) {
+          UsernamePasswordAuthenticationToken authentication =
               new UsernamePasswordAuthenticationToken(
-                  userDetails, null, userDetails.getAuthorities());
-          usernamePasswordAuthenticationToken.setDetails(
-              new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+                  principal,
+                  null,
+                  Collections.singletonList(new SimpleGrantedAuthority(principal.getRole())));
+          authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+          SecurityContextHolder.getContext().setAuthentication(authentication);
         } else {
-          log.warn("Invalid JWT Token for user: {}", username);
+          log.warn("Invalid JWT Token for user: {}", claims.getId());
         }
       }
     } catch (JwtException e) {
@@ -0,0 +1,54 @@
+package goblin.app.Agenda.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AgendaMergerTest {
+
+  @Test
+  void mergeMatchesFullSortForRandomSortedCursors() {
+    Random random = new Random(20241105L);
+    for (int run = 0; run < 300; run++) {
+      List<List<Integer>> sources = new ArrayList<>();
+      List<Integer> expected = new ArrayList<>();
+      int k = random.nextInt(8);
+      for (int i = 0; i < k; i++) {
+        List<Integer> source = new ArrayList<>();
+        int size = random.nextInt(20);
+        for (int j = 0; j < size; j++) {
+          source.add(random.nextInt(50));
+        }
+        source.sort(Comparator.naturalOrder());
+        sources.add(source);
+        expected.addAll(source);
+      }
+      expected.sort(Comparator.naturalOrder());
+
+      List<Iterator<Integer>> cursors = new ArrayList<>();
+      sources.forEach(source -> cursors.add(source.iterator()));
+      assertThat(AgendaMerger.merge(cursors, Comparator.naturalOrder()))
+          .as("run %d", run)
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void equalElementsKeepCursorOrder() {
+    // 같은 시작 시각이면 먼저 넘긴 커서(개인 -> 그룹 -> 고정)의 항목이 앞에 옴
+    List<Iterator<String>> cursors =
+        List.of(
+            List.of("a1", "b1").iterator(),
+            List.of("a2").iterator(),
+            List.of("a3", "b3").iterator());
+
+    assertThat(AgendaMerger.merge(cursors, Comparator.comparing(value -> value.charAt(0))))
+        .containsExactly("a1", "a2", "a3", "b1", "b3");
+  }
+}
@@ -0,0 +1,189 @@
+package goblin.app.FixedSchedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+// 시드 고정 난수로 여러 규칙/범위를 만들어 단순 날짜 순회 결과와 비교하는 속성 테스트
+class WeeklyRecurrenceTest {
+
+  private static final int RUNS = 500;
+
+  private static Set<DayOfWeek> randomDays(Random random) {
+    Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if (random.nextBoolean()) {
+        days.add(day);
+      }
+    }
+    return days;
+  }
+
+  private static LocalTime randomTime(Random random) {
+    return LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+  }
+
+  // 기대값: 범위 앞뒤 하루씩 넉넉히 날짜를 하나씩 훑으며 겹치는 발생을 모음
+  private static List<LocalDateTime> naive(
+      Set<DayOfWeek> days, LocalTime start, LocalTime end, LocalDateTime from, LocalDateTime to) {
+    List<LocalDateTime> result = new ArrayList<>();
+    for (LocalDate date = from.toLocalDate().minusDays(2);
+        !date.isAfter(to.toLocalDate().plusDays(1));
+        date = date.plusDays(1)) {
+      if (!days.contains(date.getDayOfWeek())) {
+        continue;
+      }
+      LocalDateTime occurrenceStart = date.atTime(start);
+      LocalDateTime occurrenceEnd = date.atTime(end);
+      if (!occurrenceEnd.isAfter(occurrenceStart)) {
+        occurrenceEnd = occurrenceEnd.plusDays(1);
+      }
+      if (occurrenceStart.isBefore(to) && occurrenceEnd.isAfter(from)) {
+        result.add(occurrenceStart);
+      }
+    }
+    return result;
+  }
+
+  private static List<LocalDateTime> expand(
+      WeeklyRecurrence recurrence, LocalDateTime from, LocalDateTime to) {
+    List<LocalDateTime> result = new ArrayList<>();
+    WeeklyRecurrence.OccurrenceIterator iterator = recurrence.overlapping(from, to);
+    while (iterator.hasNext()) {
+      result.add(WeeklyRecurrence.toLocalDateTime(iterator.nextLong()));
+    }
+    return result;
+  }
+
+  @Test
+  void overlappingMatchesNaiveExpansionAcrossWeekBoundaries() {
+    Random random = new Random(20241104L);
+    LocalDate base = LocalDate.of(1969, 12, 1); // epochDay 음수 구간도 포함
+
+    for (int run = 0; run < RUNS; run++) {
+      Set<DayOfWeek> days = randomDays(random);
+      LocalTime start = randomTime(random);
+      LocalTime end = randomTime(random); // end <= start 면 자정을 넘김
+      LocalDateTime from = base.plusDays(random.nextInt(365 * 60)).atTime(randomTime(random));
+      LocalDateTime to = from.plusMinutes(1 + random.nextInt(60 * 24 * 40));
+
+      WeeklyRecurrence recurrence = WeeklyRecurrence.of(days, start, end);
+      assertThat(expand(recurrence, from, to))
+          .as("run %d: %s %s-%s [%s, %s)", run, days, start, end, from, to)
+          .isEqualTo(naive(days, start, end, from, to));
+    }
+  }
+
+  @Test
+  void startingBetweenYieldsEachSelectedWeekdayOncePerWeek() {
+    Random random = new Random(7L);
+    for (int run = 0; run < RUNS; run++) {
+      Set<DayOfWeek> days = randomDays(random);
+      LocalDate from = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(400));
+      int weeks = 1 + random.nextInt(10);
+
+      WeeklyRecurrence.OccurrenceIterator iterator =
+          WeeklyRecurrence.of(days, LocalTime.of(9, 0), LocalTime.of(10, 0))
+              .startingBetween(from, from.plusWeeks(weeks));
+      int count = 0;
+      long previous = Long.MIN_VALUE;
+      while (iterator.hasNext()) {
+        long start = iterator.nextLong();
+        assertThat(start).isGreaterThan(previous);
+        assertThat(days).contains(WeeklyRecurrence.toLocalDateTime(start).getDayOfWeek());
+        previous = start;
+        count++;
+      }
+      assertThat(count).isEqualTo(days.size() * weeks);
+    }
+  }
+
+  @Test
+  void overnightOccurrenceFromPreviousDayIsIncluded() {
+    WeeklyRecurrence recurrence =
+        WeeklyRecurrence.of(EnumSet.of(DayOfWeek.SUNDAY), LocalTime.of(22, 0), LocalTime.of(2, 0));
+    // 2024-11-03 은 일요일, 월요일 0시부터 조회해도 일요일 22시 발생이 겹침
+    List<LocalDateTime> occurrences =
+        expand(
+            recurrence, LocalDateTime.of(2024, 11, 4, 0, 0), LocalDateTime.of(2024, 11, 5, 0, 0));
+
+    assertThat(occurrences).containsExactly(LocalDateTime.of(2024, 11, 3, 22, 0));
+    assertThat(recurrence.durationMinutes()).isEqualTo(240);
+  }
+
+  @Test
+  void zonedConversionKeepsWallClockOutsideDstGaps() {
+    Random random = new Random(99L);
+    ZoneId[] zones = {
+      ZoneId.of("America/New_York"), ZoneId.of("Europe/Berlin"), ZoneId.of("Asia/Seoul")
+    };
+
+    for (int run = 0; run < RUNS; run++) {
+      ZoneId zone = zones[random.nextInt(zones.length)];
+      Set<DayOfWeek> days = randomDays(random);
+      LocalTime start = randomTime(random);
+      LocalDateTime from = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(366)).atStartOfDay();
+      LocalDateTime to = from.plusDays(14);
+
+      WeeklyRecurrence.OccurrenceIterator iterator =
+          WeeklyRecurrence.of(days, start, start.plusHours(1)).overlapping(from, to);
+      while (iterator.hasNext()) {
+        long minute = iterator.nextLong();
+        LocalDateTime local = WeeklyRecurrence.toLocalDateTime(minute);
+        ZonedDateTime zoned = WeeklyRecurrence.toZoned(minute, zone);
+
+        if (!zone.getRules().getValidOffsets(local).isEmpty()) {
+          // 정상 구간과 중복 구간(가을)에서는 벽시계 시각이 그대로 유지됨
+          assertThat(zoned.toLocalDateTime()).isEqualTo(local);
+        } else {
+          // 공백 구간(봄)에서는 공백 길이만큼 뒤로 밀림
+          Duration gap = zone.getRules().getTransition(local).getDuration();
+          assertThat(zoned.toLocalDateTime()).isEqualTo(local.plus(gap));
+        }
+      }
+    }
+  }
+
+  @Test
+  void zonedConversionAroundNewYorkTransitions() {
+    ZoneId zone = ZoneId.of("America/New_York");
+    WeeklyRecurrence recurrence =
+        WeeklyRecurrence.of(EnumSet.of(DayOfWeek.SUNDAY), LocalTime.of(1, 30), LocalTime.of(2, 30));
+
+    // 2024-03-10 02:00 -> 03:00 (공백), 2024-11-03 02:00 -> 01:00 (중복)
+    WeeklyRecurrence.OccurrenceIterator spring =
+        recurrence.overlapping(
+            LocalDateTime.of(2024, 3, 10, 0, 0), LocalDateTime.of(2024, 3, 11, 0, 0));
+    ZonedDateTime springStart = WeeklyRecurrence.toZoned(spring.nextLong(), zone);
+    assertThat(spring.hasNext()).isFalse();
+    assertThat(springStart.toLocalDateTime()).isEqualTo(LocalDateTime.of(2024, 3, 10, 1, 30));
+
+    WeeklyRecurrence.OccurrenceIterator fall =
+        recurrence.overlapping(
+            LocalDateTime.of(2024, 11, 3, 0, 0), LocalDateTime.of(2024, 11, 4, 0, 0));
+    long fallMinute = fall.nextLong();
+    ZonedDateTime fallStart = WeeklyRecurrence.toZoned(fallMinute, zone);
+    ZonedDateTime fallEnd =
+        WeeklyRecurrence.toZoned(fallMinute + recurrence.durationMinutes(), zone);
+    assertThat(fallStart.getOffset().getTotalSeconds()).isEqualTo(-4 * 3600); // 이른 오프셋
+    assertThat(Duration.between(fallStart, fallEnd)).isEqualTo(Duration.ofHours(2)); // 벽시계 1시간
+
+    ZonedDateTime gap =
+        WeeklyRecurrence.toZoned(
+            WeeklyRecurrence.toEpochMinute(LocalDateTime.of(2024, 3, 10, 2, 30)), zone);
+    assertThat(gap.toLocalDateTime()).isEqualTo(LocalDateTime.of(2024, 3, 10, 3, 30));
+  }
+}
@@ -0,0 +1,100 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.GroupCalendar;
+
+class AvailabilityGridTest {
+
+  private static final LocalDate DAY1 = LocalDate.of(2024, 11, 4);
+  private static final LocalDate DAY2 = LocalDate.of(2024, 11, 5);
+
+  private static AvailabilityGrid grid(int granularity) {
+    GroupCalendar calendar = new GroupCalendar();
+    calendar.setSelectedDates(List.of(DAY2, DAY1));
+    calendar.setStartTime(LocalTime.of(9, 0));
+    calendar.setEndTime(LocalTime.of(18, 0));
+    return AvailabilityGrid.of(calendar, granularity);
+  }
+
+  private static LocalDateTime at(LocalDate day, int hour, int minute) {
+    return day.atTime(hour, minute);
+  }
+
+  @Test
+  void marksOnlyFullyCoveredCellsInsideWindow() {
+    AvailabilityGrid grid = grid(15);
+    grid.mark("a", at(DAY1, 8, 0), at(DAY1, 10, 10)); // 9:00 이전은 잘리고 10:10 은 내림
+
+    List<TimeSlot> runs = grid.runsOf("a");
+    assertThat(grid.cellCount()).isEqualTo(2 * 36);
+    assertThat(runs).hasSize(1);
+    assertThat(runs.get(0).getStartTime()).isEqualTo(at(DAY1, 9, 0));
+    assertThat(runs.get(0).getEndTime()).isEqualTo(at(DAY1, 10, 0));
+  }
+
+  @Test
+  void commonSlotsSplitWhereParticipantSetChangesAndAtDayBoundary() {
+    AvailabilityGrid grid = grid(30);
+    grid.mark("a", at(DAY1, 9, 0), at(DAY2, 12, 0)); // 두 날짜 모두 덮음
+    grid.mark("b", at(DAY1, 10, 0), at(DAY1, 11, 0));
+    grid.mark("b", at(DAY2, 9, 0), at(DAY2, 10, 0));
+
+    List<TimeSlot> slots = grid.commonSlots(2);
+    assertThat(slots).hasSize(2);
+    assertThat(slots.get(0).getStartTime()).isEqualTo(at(DAY1, 10, 0));
+    assertThat(slots.get(0).getEndTime()).isEqualTo(at(DAY1, 11, 0));
+    assertThat(slots.get(0).getParticipants()).containsExactly("a", "b");
+    assertThat(slots.get(1).getStartTime()).isEqualTo(at(DAY2, 9, 0));
+    assertThat(slots.get(1).getEndTime()).isEqualTo(at(DAY2, 10, 0));
+
+    assertThat(grid.commonSlots(1)).hasSize(5);
+    assertThat(grid.counts()[2]).isEqualTo(2);
+    assertThat(grid.freeAt(0)).containsExactly("a");
+  }
+
+  @Test
+  void intersectionAndQuorumAgree() {
+    AvailabilityGrid grid = grid(60);
+    grid.mark("a", at(DAY1, 9, 0), at(DAY1, 18, 0));
+    grid.mark("b", at(DAY1, 12, 0), at(DAY1, 14, 0));
+
+    long[] both = grid.intersection(List.of("a", "b"));
+    assertThat(both).isEqualTo(grid.quorum(2));
+    assertThat(Long.bitCount(both[0])).isEqualTo(2);
+    assertThat(grid.intersection(List.of("a", "unknown"))[0]).isZero();
+  }
+
+  @Test
+  void quorumMatchesPerCellCountsAcrossWords() {
+    AvailabilityGrid grid = grid(5); // 날짜당 108 셀, 워드 4 개
+    for (int i = 0; i < 9; i++) {
+      grid.mark("p" + i, at(DAY1, 9 + i % 4, 5 * i), at(DAY2, 10 + i, 0));
+    }
+    int[] counts = grid.counts();
+
+    for (int quorum = 0; quorum <= 10; quorum++) {
+      long[] cells = grid.quorum(quorum);
+      for (int cell = 0; cell < grid.cellCount(); cell++) {
+        assertThat((cells[cell >>> 6] >>> cell & 1) != 0)
+            .as("quorum %d, cell %d", quorum, cell)
+            .isEqualTo(counts[cell] >= quorum);
+      }
+      assertThat(cells[cells.length - 1] >>> (grid.cellCount() & 63)).isZero();
+    }
+  }
+
+  @Test
+  void rejectsGranularityThatDoesNotDivideAnHour() {
+    assertThatThrownBy(() -> grid(7)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,42 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.service.AvailabilityIntervals.Interval;
+
+class AvailabilityIntervalsTest {
+
+  private static Interval interval(int startHour, int endHour) {
+    return new Interval(
+        LocalDateTime.of(2024, 11, 4, startHour, 0), LocalDateTime.of(2024, 11, 4, endHour, 0));
+  }
+
+  @Test
+  void mergesOverlappingAndAdjacentIntervalsInStartOrder() {
+    List<Interval> merged =
+        AvailabilityIntervals.coalesce(
+            List.of(interval(14, 16), interval(9, 11), interval(10, 12), interval(12, 13)));
+
+    assertThat(merged).containsExactly(interval(9, 13), interval(14, 16));
+  }
+
+  @Test
+  void mergesDuplicatesAndRejectsEmptyOrInvertedIntervals() {
+    assertThat(AvailabilityIntervals.coalesce(List.of(interval(9, 10), interval(9, 10))))
+        .containsExactly(interval(9, 10));
+    assertThat(AvailabilityIntervals.coalesce(List.of())).isEmpty();
+
+    assertThatThrownBy(
+            () -> AvailabilityIntervals.coalesce(List.of(interval(9, 10), interval(11, 11))))
+        .isInstanceOf(IllegalArgumentException.class);
+    // 23시 ~ 01시처럼 같은 날짜로 제출된 자정 넘김 슬롯
+    assertThatThrownBy(() -> AvailabilityIntervals.coalesce(List.of(interval(23, 1))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
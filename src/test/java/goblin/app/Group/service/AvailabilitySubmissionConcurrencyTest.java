@@ -0,0 +1,204 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import goblin.app.Calendar.service.UserCalService;
+import goblin.app.Group.model.dto.AvailableTimeRequestDTO;
+import goblin.app.Group.model.dto.AvailableTimeSlot;
+import goblin.app.Group.model.dto.GroupHelper;
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.Group;
+import goblin.app.Group.model.entity.GroupCalendar;
+import goblin.app.Group.model.entity.GroupCalendarParticipant;
+import goblin.app.Group.model.entity.OptimalTimeSlot;
+import goblin.app.Group.repository.AvailableTimeRepository;
+import goblin.app.Group.repository.GroupCalendarParticipantRepository;
+import goblin.app.Group.repository.GroupCalendarRepository;
+import goblin.app.Group.repository.GroupRepository;
+import goblin.app.Group.repository.OptimalTimeSlotRepository;
+import goblin.app.Notification.service.NotificationService;
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+/*
+ * 같은 일정에 가능 시간이 동시에 제출될 때 최적 시간이 전체 재계산 결과와 같게 유지되는지 확인
+ * - 인메모리 H2 를 MySQL 기본값과 같은 REPEATABLE READ 로 띄우고 제출마다 별도 스레드/트랜잭션에서 실행
+ * - 잠금 전에 조회해 스냅샷이 고정되면 앞선 제출을 못 보고 최적 시간 행이 겹치거나 빠짐
+ */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:availability;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+      "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({GroupService.class, OptimalTimeSlotMaintainer.class, AvailabilitySweepLine.class})
+class AvailabilitySubmissionConcurrencyTest {
+
+  private static final LocalDate DATE = LocalDate.of(2024, 11, 4);
+  private static final int USERS = 6;
+  private static final int ROUNDS = 4;
+
+  @Autowired private GroupService groupService;
+  @Autowired private AvailabilitySweepLine availabilitySweepLine;
+  @Autowired private UserRepository userRepository;
+  @Autowired private GroupRepository groupRepository;
+  @Autowired private GroupCalendarRepository groupCalendarRepository;
+  @Autowired private GroupCalendarParticipantRepository groupCalendarParticipantRepository;
+  @Autowired private AvailableTimeRepository availableTimeRepository;
+  @Autowired private OptimalTimeSlotRepository optimalTimeSlotRepository;
+
+  @MockBean private UserCalService userCalService;
+  @MockBean private NotificationService notificationService;
+  @MockBean private GroupHelper groupHelper;
+  @MockBean private MeetingTimeRanker meetingTimeRanker;
+  @MockBean private GroupMembershipCache groupMembershipCache;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(USERS);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentSubmissionsKeepOptimalTimesEqualToFullRecomputation() throws Exception {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < USERS; i++) {
+      User user = new User();
+      user.setLoginId("user" + i);
+      user.setUsername("사용자" + i);
+      users.add(userRepository.save(user));
+    }
+    Long calendarId = createCalendar(users);
+
+    for (int round = 0; round < ROUNDS; round++) {
+      CyclicBarrier start = new CyclicBarrier(USERS);
+      List<Future<?>> submissions = new ArrayList<>();
+      for (int i = 0; i < USERS; i++) {
+        // 라운드마다 창을 옮겨 재제출(삭제 + 경계 자르기)도 함께 겪게 함
+        int fromHour = 9 + (i + round) % 4;
+        int toHour = fromHour + 2 + i % 3;
+        String loginId = users.get(i).getLoginId();
+        submissions.add(
+            executor.submit(
+                () -> {
+                  start.await(10, TimeUnit.SECONDS);
+                  groupService.setAvailableTime(calendarId, request(fromHour, toHour), loginId);
+                  return null;
+                }));
+      }
+      for (Future<?> submission : submissions) {
+        submission.get(60, TimeUnit.SECONDS);
+      }
+
+      List<OptimalTimeSlot> stored =
+          optimalTimeSlotRepository.findByCalendarIdOrderByStartTimeAsc(calendarId);
+      for (int i = 1; i < stored.size(); i++) {
+        assertThat(stored.get(i).getStartTime())
+            .as("round %d: 최적 시간 행이 겹치지 않아야 함", round)
+            .isAfterOrEqualTo(stored.get(i - 1).getEndTime());
+      }
+      assertThat(describe(groupService.getOptimalTimes(calendarId)))
+          .as("round %d", round)
+          .isEqualTo(expected(calendarId));
+    }
+  }
+
+  private Long createCalendar(List<User> users) {
+    Group group = new Group();
+    group.setGroupName("동시 제출");
+    group.setCreatedBy(users.get(0));
+    groupRepository.save(group);
+
+    GroupCalendar calendar = new GroupCalendar();
+    calendar.setGroup(group);
+    calendar.setTitle("회의");
+    calendar.setSelectedDates(List.of(DATE));
+    calendar.setTime(60);
+    calendar.setPlace("회의실");
+    calendar.setCreatedDate(LocalDateTime.now());
+    calendar.setCreatedBy(users.get(0));
+    calendar.setStartTime(LocalTime.of(9, 0));
+    calendar.setEndTime(LocalTime.of(18, 0));
+    calendar.setOptimalTimesMaintained(true);
+    groupCalendarRepository.save(calendar);
+
+    List<GroupCalendarParticipant> participants = new ArrayList<>();
+    for (User user : users) {
+      GroupCalendarParticipant participant = new GroupCalendarParticipant();
+      participant.setCalendarId(calendar.getId());
+      participant.setUser(user);
+      participants.add(participant);
+    }
+    groupCalendarParticipantRepository.saveAll(participants);
+    return calendar.getId();
+  }
+
+  private AvailableTimeRequestDTO request(int fromHour, int toHour) {
+    AvailableTimeSlot slot = new AvailableTimeSlot();
+    slot.setDate(DATE);
+    slot.setStartAmPm(fromHour < 12 ? "AM" : "PM");
+    slot.setStartHour(fromHour > 12 ? fromHour - 12 : fromHour);
+    slot.setEndAmPm(toHour < 12 ? "AM" : "PM");
+    slot.setEndHour(toHour > 12 ? toHour - 12 : toHour);
+    AvailableTimeRequestDTO request = new AvailableTimeRequestDTO();
+    request.setAvailableTimeSlots(List.of(slot));
+    return request;
+  }
+
+  private List<String> expected(Long calendarId) {
+    List<TimeSlot> slots = new ArrayList<>();
+    for (TimeSlot slot :
+        availabilitySweepLine.sweep(
+            availableTimeRepository.findOverlapping(calendarId, min(), max()))) {
+      if (slot.getParticipants().size() >= 2) {
+        slots.add(slot);
+      }
+    }
+    return describe(slots);
+  }
+
+  private static LocalDateTime min() {
+    return DATE.atStartOfDay();
+  }
+
+  private static LocalDateTime max() {
+    return DATE.plusDays(1).atStartOfDay();
+  }
+
+  private static List<String> describe(List<TimeSlot> slots) {
+    return slots.stream()
+        .sorted(Comparator.comparing(TimeSlot::getStartTime))
+        .map(
+            slot -> {
+              List<String> participants = new ArrayList<>(slot.getParticipants());
+              participants.sort(null);
+              return slot.getStartTime() + "~" + slot.getEndTime() + participants;
+            })
+        .toList();
+  }
+}
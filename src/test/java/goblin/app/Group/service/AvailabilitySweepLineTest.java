@@ -0,0 +1,68 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.model.dto.TimeSlot;
+
+class AvailabilitySweepLineTest {
+
+  private final AvailabilitySweepLine sweepLine = new AvailabilitySweepLine();
+
+  private record Interval(String user, LocalDateTime start, LocalDateTime end) {}
+
+  private static LocalDateTime at(int hour, int minute) {
+    return LocalDateTime.of(2024, 11, 4, hour, minute);
+  }
+
+  private List<TimeSlot> sweep(Interval... intervals) {
+    return sweepLine.sweep(List.of(intervals), Interval::start, Interval::end, Interval::user);
+  }
+
+  @Test
+  void splitsIntoMaximalIntervalsWithExactParticipants() {
+    List<TimeSlot> slots =
+        sweep(
+            new Interval("a", at(9, 0), at(12, 0)),
+            new Interval("b", at(10, 0), at(11, 0)),
+            new Interval("c", at(10, 30), at(13, 0)));
+
+    assertThat(slots).hasSize(5);
+    assertThat(slots.get(0).getParticipants()).containsExactly("a");
+    assertThat(slots.get(1).getStartTime()).isEqualTo(at(10, 0));
+    assertThat(slots.get(1).getParticipants()).containsExactly("a", "b");
+    assertThat(slots.get(2).getStartTime()).isEqualTo(at(10, 30));
+    assertThat(slots.get(2).getEndTime()).isEqualTo(at(11, 0));
+    assertThat(slots.get(2).getParticipants()).containsExactly("a", "b", "c");
+    assertThat(slots.get(3).getParticipants()).containsExactly("a", "c");
+    assertThat(slots.get(4).getParticipants()).containsExactly("c");
+  }
+
+  @Test
+  void mergesTouchingAndDuplicateSubmissionsOfSameUser() {
+    List<TimeSlot> slots =
+        sweep(
+            new Interval("a", at(9, 0), at(10, 0)),
+            new Interval("a", at(10, 0), at(11, 0)),
+            new Interval("a", at(9, 30), at(10, 30)));
+
+    assertThat(slots).hasSize(1);
+    assertThat(slots.get(0).getStartTime()).isEqualTo(at(9, 0));
+    assertThat(slots.get(0).getEndTime()).isEqualTo(at(11, 0));
+    assertThat(slots.get(0).getParticipants()).containsExactly("a");
+  }
+
+  @Test
+  void keepsGapsBetweenDisjointIntervals() {
+    List<TimeSlot> slots =
+        sweep(new Interval("a", at(9, 0), at(10, 0)), new Interval("b", at(11, 0), at(12, 0)));
+
+    assertThat(slots).hasSize(2);
+    assertThat(slots.get(0).getEndTime()).isEqualTo(at(10, 0));
+    assertThat(slots.get(1).getStartTime()).isEqualTo(at(11, 0));
+  }
+}
@@ -0,0 +1,49 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.model.dto.TimeSlot;
+
+class FreeBusyIndexTest {
+
+  private static LocalDateTime at(int hour, int minute) {
+    return LocalDateTime.of(2024, 11, 4, hour, minute);
+  }
+
+  private final FreeBusyIndex index =
+      FreeBusyIndex.builder()
+          .add("a", at(9, 0), at(10, 0))
+          .add("a", at(9, 30), at(11, 0)) // 겹치는 구간은 병합
+          .add("a", at(13, 0), at(14, 0))
+          .add("b", at(11, 0), at(12, 0))
+          .user("c")
+          .build();
+
+  @Test
+  void answersBusyUsersForWholeListInOnePass() {
+    assertThat(index.busyBetween(List.of("a", "b", "c"), at(10, 30), at(11, 30)))
+        .containsExactly("a", "b");
+    assertThat(index.busyBetween(List.of("a", "b", "c"), at(11, 0), at(11, 30)))
+        .containsExactly("b"); // 반열린 구간: a 는 11:00 에 끝남
+    assertThat(index.busyBetween(List.of("a", "b", "c", "unknown"), at(12, 0), at(13, 0)))
+        .isEmpty();
+  }
+
+  @Test
+  void freeWithinSubtractsMergedBusyIntervals() {
+    List<TimeSlot> free = index.freeWithin("a", at(8, 0), at(15, 0));
+
+    assertThat(free).hasSize(3);
+    assertThat(free.get(0).getEndTime()).isEqualTo(at(9, 0));
+    assertThat(free.get(1).getStartTime()).isEqualTo(at(11, 0));
+    assertThat(free.get(1).getEndTime()).isEqualTo(at(13, 0));
+    assertThat(free.get(2).getStartTime()).isEqualTo(at(14, 0));
+    assertThat(index.freeWithin("c", at(8, 0), at(9, 0))).hasSize(1);
+    assertThat(index.freeWithin("a", at(9, 15), at(10, 45))).isEmpty();
+  }
+}
@@ -0,0 +1,97 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Calendar.model.entity.UserCalRepository;
+import goblin.app.FixedSchedule.repository.FixedScheduleRepository;
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.Group;
+import goblin.app.Group.model.entity.GroupCalendar;
+import goblin.app.Group.model.entity.GroupCalendarParticipant;
+import goblin.app.Group.repository.GroupCalendarParticipantRepository;
+import goblin.app.Group.repository.GroupCalendarRepository;
+import goblin.app.Group.repository.GroupConfirmedCalendarRepository;
+import goblin.app.User.model.entity.User;
+
+class FreeBusyServiceTest {
+
+  private static final LocalDate DAY = LocalDate.of(2024, 11, 4);
+
+  private final GroupCalendarRepository groupCalendarRepository =
+      mock(GroupCalendarRepository.class);
+  private final GroupCalendarParticipantRepository groupCalendarParticipantRepository =
+      mock(GroupCalendarParticipantRepository.class);
+  private final FreeBusyService freeBusyService =
+      new FreeBusyService(
+          mock(FixedScheduleRepository.class),
+          mock(UserCalRepository.class),
+          mock(GroupConfirmedCalendarRepository.class),
+          groupCalendarRepository,
+          groupCalendarParticipantRepository);
+
+  private static User user(long id) {
+    User user = new User();
+    user.setId(id);
+    user.setLoginId("user" + id);
+    return user;
+  }
+
+  private void givenCalendar(long calendarId, long groupId, User... participants) {
+    Group group = new Group();
+    group.setGroupId(groupId);
+    GroupCalendar calendar = new GroupCalendar();
+    calendar.setId(calendarId);
+    calendar.setGroup(group);
+    calendar.setSelectedDates(List.of(DAY));
+    calendar.setStartTime(LocalTime.of(9, 0));
+    calendar.setEndTime(LocalTime.of(18, 0));
+    when(groupCalendarRepository.findById(calendarId)).thenReturn(Optional.of(calendar));
+
+    List<GroupCalendarParticipant> rows =
+        List.of(participants).stream()
+            .map(
+                user -> {
+                  GroupCalendarParticipant participant = new GroupCalendarParticipant();
+                  participant.setCalendarId(calendarId);
+                  participant.setUser(user);
+                  return participant;
+                })
+            .toList();
+    when(groupCalendarParticipantRepository.findAllByCalendarId(calendarId)).thenReturn(rows);
+  }
+
+  @Test
+  void rejectsCalendarOfAnotherGroupBeforeReadingParticipants() {
+    givenCalendar(5L, 2L, user(1), user(2));
+
+    assertThatThrownBy(() -> freeBusyService.proposeAvailability(1L, 5L, 1L))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> freeBusyService.proposeAvailability(1L, 6L, 1L))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(groupCalendarParticipantRepository, never()).findAllByCalendarId(any());
+  }
+
+  @Test
+  void proposesOnlyTheCallersOwnFreeTime() {
+    givenCalendar(5L, 2L, user(1), user(2));
+
+    List<TimeSlot> proposals = freeBusyService.proposeAvailability(2L, 5L, 1L);
+    assertThat(proposals).hasSize(1);
+    assertThat(proposals.get(0).getParticipants()).containsExactly("user1");
+
+    assertThat(freeBusyService.proposeAvailability(2L, 5L, 3L)).isEmpty(); // 참가자가 아님
+  }
+}
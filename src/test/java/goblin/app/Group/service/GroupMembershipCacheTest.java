@@ -0,0 +1,66 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.repository.GroupMemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GroupMembershipCacheTest {
+
+  private final GroupMemberRepository repository = mock(GroupMemberRepository.class);
+  private final GroupMembershipCache cache =
+      new GroupMembershipCache(repository, 100, 60_000, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+
+  @Test
+  void answersFromSortedGroupIdsAndCountsHitsAndMisses() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cache.bindTo(registry);
+    when(repository.findActiveGroupIdsByUserId(1L)).thenReturn(List.of(30L, 10L, 20L));
+
+    assertThat(cache.isMember(10L, 1L)).isTrue();
+    assertThat(cache.isMember(20L, 1L)).isTrue();
+    assertThat(cache.isMember(15L, 1L)).isFalse();
+    assertThat(cache.isMember(30L, 1L)).isTrue();
+
+    verify(repository, times(1)).findActiveGroupIdsByUserId(1L);
+    assertThat(cache.missCount()).isEqualTo(1);
+    assertThat(cache.hitCount()).isEqualTo(3);
+    assertThat(
+            registry.get("group.membership.cache").tag("result", "hit").functionCounter().count())
+        .isEqualTo(3.0);
+    FunctionCounter missCounter =
+        registry.get("group.membership.cache").tag("result", "miss").functionCounter();
+    assertThat(missCounter.count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void membershipChangeEvictsOnlyAffectedUsers() {
+    when(repository.findActiveGroupIdsByUserId(1L))
+        .thenReturn(List.of(10L))
+        .thenReturn(List.of(10L, 20L));
+    when(repository.findActiveGroupIdsByUserId(2L)).thenReturn(List.of(10L));
+
+    assertThat(cache.isMember(20L, 1L)).isFalse();
+    assertThat(cache.isMember(10L, 2L)).isTrue();
+
+    // 사용자 1 이 그룹 20 에 초대됨
+    cache.onMembershipChanged(GroupMembershipChangedEvent.of(20L, 1L));
+
+    assertThat(cache.isMember(20L, 1L)).isTrue();
+    assertThat(cache.isMember(10L, 2L)).isTrue();
+    verify(repository, times(2)).findActiveGroupIdsByUserId(1L);
+    verify(repository, times(1)).findActiveGroupIdsByUserId(2L);
+  }
+}
@@ -0,0 +1,65 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.model.dto.RankedTimeSlot;
+import goblin.app.Group.model.dto.TimeSlot;
+
+class MeetingTimeRankerTest {
+
+  private final AvailabilitySweepLine sweepLine = new AvailabilitySweepLine();
+  private final MeetingTimeRanker ranker = new MeetingTimeRanker();
+
+  private record Interval(String user, LocalDateTime start, LocalDateTime end) {}
+
+  private static Interval free(String user, int day, int fromHour, int toHour) {
+    return new Interval(
+        user,
+        LocalDateTime.of(2024, 11, day, fromHour, 0),
+        LocalDateTime.of(2024, 11, day, toHour, 0));
+  }
+
+  private List<TimeSlot> segments(Interval... intervals) {
+    return sweepLine.sweep(List.of(intervals), Interval::start, Interval::end, Interval::user);
+  }
+
+  @Test
+  void ranksByParticipantCountThenEarliestDate() {
+    List<TimeSlot> segments =
+        segments(
+            free("a", 4, 9, 12),
+            free("b", 4, 10, 11), // 4일에는 2명이 1시간만 겹침
+            free("a", 5, 9, 12),
+            free("b", 5, 9, 12),
+            free("c", 5, 10, 12)); // 5일에는 3명이 2시간 겹침
+
+    List<RankedTimeSlot> ranked = ranker.topK(segments, 60, 3, 3);
+
+    assertThat(ranked).hasSize(3);
+    assertThat(ranked.get(0).getRank()).isEqualTo(1);
+    assertThat(ranked.get(0).getParticipants()).containsExactly("a", "b", "c");
+    assertThat(ranked.get(0).getStartTime()).isEqualTo(LocalDateTime.of(2024, 11, 5, 10, 0));
+    assertThat(ranked.get(0).getScore()).isEqualTo(1.0);
+    assertThat(ranked.get(1).getParticipants()).containsExactly("a", "b", "c");
+    assertThat(ranked.get(1).getStartTime()).isEqualTo(LocalDateTime.of(2024, 11, 5, 11, 0));
+    assertThat(ranked.get(2).getParticipants()).containsExactly("a", "b");
+    assertThat(ranked.get(2).getStartTime()).isEqualTo(LocalDateTime.of(2024, 11, 4, 10, 0));
+  }
+
+  @Test
+  void windowsHaveExactDurationAndSkipGaps() {
+    List<TimeSlot> segments = segments(free("a", 4, 9, 10), free("a", 4, 11, 12));
+
+    assertThat(ranker.topK(segments, 90, 5, 1)).isEmpty();
+
+    List<RankedTimeSlot> ranked = ranker.topK(segments, 45, 5, 1);
+    assertThat(ranked).hasSize(2); // 같은 집합으로 겹치는 창(9:00, 9:15 시작)은 하나만
+    assertThat(ranked)
+        .allMatch(slot -> slot.getEndTime().equals(slot.getStartTime().plusMinutes(45)));
+  }
+}
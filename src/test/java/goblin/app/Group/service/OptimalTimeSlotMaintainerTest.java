@@ -0,0 +1,166 @@
+package goblin.app.Group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Group.model.dto.TimeSlot;
+import goblin.app.Group.model.entity.AvailableTime;
+import goblin.app.Group.model.entity.GroupCalendar;
+import goblin.app.Group.model.entity.OptimalTimeSlot;
+import goblin.app.Group.repository.AvailableTimeRepository;
+import goblin.app.Group.repository.OptimalTimeSlotRepository;
+import goblin.app.User.model.entity.User;
+
+class OptimalTimeSlotMaintainerTest {
+
+  private static final long CALENDAR_ID = 1L;
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 11, 4, 9, 0);
+
+  private final List<AvailableTime> availability = new ArrayList<>();
+  private final List<OptimalTimeSlot> stored = new ArrayList<>();
+  private long nextId = 1;
+
+  private final AvailabilitySweepLine sweepLine = new AvailabilitySweepLine();
+  private final OptimalTimeSlotMaintainer maintainer =
+      new OptimalTimeSlotMaintainer(
+          availableTimeRepository(), optimalTimeSlotRepository(), sweepLine);
+
+  // 저장소를 메모리 리스트로 흉내냄
+  private AvailableTimeRepository availableTimeRepository() {
+    AvailableTimeRepository repository = mock(AvailableTimeRepository.class);
+    when(repository.findByCalendarId(CALENDAR_ID)).thenAnswer(inv -> new ArrayList<>(availability));
+    when(repository.findOverlapping(any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              LocalDateTime from = inv.getArgument(1);
+              LocalDateTime to = inv.getArgument(2);
+              return availability.stream()
+                  .filter(a -> a.getStartTime().isBefore(to) && a.getEndTime().isAfter(from))
+                  .toList();
+            });
+    return repository;
+  }
+
+  @SuppressWarnings("unchecked")
+  private OptimalTimeSlotRepository optimalTimeSlotRepository() {
+    OptimalTimeSlotRepository repository = mock(OptimalTimeSlotRepository.class);
+    when(repository.findByCalendarIdOrderByStartTimeAsc(CALENDAR_ID))
+        .thenAnswer(
+            inv ->
+                stored.stream()
+                    .sorted(Comparator.comparing(OptimalTimeSlot::getStartTime))
+                    .toList());
+    when(repository.findTouchingRange(any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              LocalDateTime from = inv.getArgument(1);
+              LocalDateTime to = inv.getArgument(2);
+              return stored.stream()
+                  .filter(o -> !o.getStartTime().isAfter(to) && !o.getEndTime().isBefore(from))
+                  .sorted(Comparator.comparing(OptimalTimeSlot::getStartTime))
+                  .toList();
+            });
+    when(repository.saveAll(anyIterable()))
+        .thenAnswer(
+            inv -> {
+              for (OptimalTimeSlot row : (Iterable<OptimalTimeSlot>) inv.getArgument(0)) {
+                if (row.getId() == null) {
+                  row.setId(nextId++);
+                  stored.add(row);
+                }
+              }
+              return null;
+            });
+    doAnswer(inv -> stored.remove((OptimalTimeSlot) inv.getArgument(0)))
+        .when(repository)
+        .delete(any());
+    doAnswer(
+            inv -> {
+              List<OptimalTimeSlot> rows = new ArrayList<>();
+              ((Iterable<OptimalTimeSlot>) inv.getArgument(0)).forEach(rows::add);
+              stored.removeAll(rows);
+              return null;
+            })
+        .when(repository)
+        .deleteAll(anyIterable());
+    return repository;
+  }
+
+  private AvailableTime submit(String user, int fromMinute, int toMinute) {
+    User owner = new User();
+    owner.setUsername(user);
+    AvailableTime time = new AvailableTime();
+    time.setUser(owner);
+    time.setCalendarId(CALENDAR_ID);
+    time.setStartTime(BASE.plusMinutes(fromMinute));
+    time.setEndTime(BASE.plusMinutes(toMinute));
+    availability.add(time);
+    return time;
+  }
+
+  private List<String> expected() {
+    List<String> result = new ArrayList<>();
+    for (TimeSlot slot : sweepLine.sweep(availability)) {
+      if (slot.getParticipants().size() >= 2) {
+        result.add(describe(slot));
+      }
+    }
+    return result;
+  }
+
+  private List<String> maintained() {
+    return maintainer.read(CALENDAR_ID).stream().map(this::describe).toList();
+  }
+
+  private String describe(TimeSlot slot) {
+    List<String> participants = new ArrayList<>(slot.getParticipants());
+    participants.sort(null);
+    return slot.getStartTime() + "~" + slot.getEndTime() + participants;
+  }
+
+  @Test
+  void incrementalRefreshMatchesFullRecomputation() {
+    GroupCalendar calendar = new GroupCalendar();
+    calendar.setId(CALENDAR_ID);
+    calendar.setOptimalTimesMaintained(true);
+
+    Random random = new Random(42);
+    String[] users = {"a", "b", "c", "d"};
+    for (int i = 0; i < 200; i++) {
+      int from = random.nextInt(48) * 15;
+      int to = from + (1 + random.nextInt(12)) * 15;
+      AvailableTime time = submit(users[random.nextInt(users.length)], from, to);
+      maintainer.refresh(calendar, time.getStartTime(), time.getEndTime());
+
+      assertThat(maintained()).as("submission %d", i).isEqualTo(expected());
+    }
+  }
+
+  @Test
+  void firstRefreshOfLegacyCalendarRebuildsOnce() {
+    GroupCalendar calendar = new GroupCalendar();
+    calendar.setId(CALENDAR_ID);
+    submit("a", 0, 120);
+    AvailableTime time = submit("b", 60, 180);
+
+    maintainer.refresh(calendar, time.getStartTime(), time.getEndTime());
+    List<TimeSlot> first = maintainer.read(CALENDAR_ID);
+
+    assertThat(calendar.isOptimalTimesMaintained()).isTrue();
+    assertThat(first).hasSize(1);
+    assertThat(maintainer.read(CALENDAR_ID).get(0).getId()).isEqualTo(first.get(0).getId());
+    assertThat(stored).hasSize(1);
+  }
+}
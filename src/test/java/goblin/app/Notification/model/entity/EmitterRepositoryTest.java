@@ -0,0 +1,39 @@
+package goblin.app.Notification.model.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class EmitterRepositoryTest {
+
+  private final EmitterRepository repository = new EmitterRepository(2);
+
+  @Test
+  void keepsEveryDeviceUpToCapAndEvictsOldest() {
+    SseEmitter phone = new SseEmitter();
+    SseEmitter web = new SseEmitter();
+    SseEmitter tablet = new SseEmitter();
+
+    assertThat(repository.save(1L, phone)).isEmpty();
+    assertThat(repository.save(1L, web)).isEmpty();
+    assertThat(repository.save(1L, tablet)).containsExactly(phone);
+
+    assertThat(repository.findAllByUserId(1L)).containsExactly(web, tablet);
+    assertThat(repository.findAllByUserId(2L)).isEmpty();
+  }
+
+  @Test
+  void deletesOnlyTheGivenDevice() {
+    SseEmitter phone = new SseEmitter();
+    SseEmitter web = new SseEmitter();
+    repository.save(1L, phone);
+    repository.save(1L, web);
+
+    repository.deleteById(1L, phone);
+    assertThat(repository.findAllByUserId(1L)).containsExactly(web);
+
+    repository.deleteById(1L, web);
+    assertThat(repository.findAllByUserId(1L)).isEmpty();
+  }
+}
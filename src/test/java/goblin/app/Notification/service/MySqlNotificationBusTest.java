@@ -0,0 +1,101 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import goblin.app.Notification.model.entity.EmitterRepository;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationBroadcast;
+import goblin.app.Notification.model.entity.NotificationBroadcastRepository;
+import goblin.app.Notification.model.entity.NotificationRepository;
+import goblin.app.Notification.model.entity.NotificationType;
+
+class MySqlNotificationBusTest {
+
+  private final Clock clock = Clock.fixed(Instant.parse("2024-11-04T00:00:00Z"), ZoneOffset.UTC);
+  private final NotificationBroadcastRepository broadcastRepository =
+      mock(NotificationBroadcastRepository.class);
+  private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+  private final EmitterRepository emitterRepository = new EmitterRepository(5);
+  private final SseNotificationSender sender = mock(SseNotificationSender.class);
+  private final MySqlNotificationBus bus =
+      new MySqlNotificationBus(
+          broadcastRepository,
+          notificationRepository,
+          emitterRepository,
+          sender,
+          TransactionOperations.withoutTransaction(),
+          clock,
+          500,
+          5_000,
+          600_000,
+          100);
+
+  private static NotificationBroadcast row(long id, long notificationId, long receiverId) {
+    NotificationBroadcast row =
+        new NotificationBroadcast(notificationId, receiverId, LocalDateTime.of(2024, 11, 4, 0, 0));
+    ReflectionTestUtils.setField(row, "id", id);
+    return row;
+  }
+
+  private static Notification notification(long id) {
+    return Notification.builder()
+        .id(id)
+        .msgTitle("title")
+        .eventName("event")
+        .type(NotificationType.EVENT_CREATED)
+        .build();
+  }
+
+  @Test
+  void deliversEachRowOnceAcrossOverlappingPolls() {
+    emitterRepository.save(7L, new SseEmitter());
+    emitterRepository.save(8L, new SseEmitter());
+    when(broadcastRepository.findAllByCreatedAtGreaterThanEqualOrderByCreatedAt(any(), any()))
+        .thenReturn(List.of(row(1, 10, 7), row(2, 11, 8)))
+        .thenReturn(List.of(row(1, 10, 7), row(2, 11, 8), row(3, 12, 7)));
+    when(notificationRepository.findAllById(anyList()))
+        .thenReturn(List.of(notification(10), notification(11)))
+        .thenReturn(List.of(notification(12)));
+
+    assertThat(bus.poll()).isEqualTo(2);
+    assertThat(bus.poll()).isEqualTo(1); // 겹쳐 읽은 1, 2 번 행은 건너뜀
+
+    verify(sender, times(2)).send(eq(7L), any());
+    verify(sender, times(1)).send(eq(8L), any());
+  }
+
+  @Test
+  void skipsRowsForReceiversNotConnectedToThisNode() {
+    emitterRepository.save(7L, new SseEmitter());
+    when(broadcastRepository.findAllByCreatedAtGreaterThanEqualOrderByCreatedAt(any(), any()))
+        .thenReturn(List.of(row(1, 10, 8), row(2, 11, 9)))
+        .thenReturn(List.of(row(1, 10, 8), row(2, 11, 9), row(3, 12, 7)));
+    when(notificationRepository.findAllById(List.of(12L))).thenReturn(List.of(notification(12)));
+
+    assertThat(bus.poll()).isZero(); // 구독자가 없으므로 알림을 읽지 않음
+    verify(notificationRepository, never()).findAllById(anyList());
+    assertThat(bus.poll()).isEqualTo(1);
+
+    verify(notificationRepository, times(1)).findAllById(anyList());
+    verify(sender, times(1)).send(eq(7L), any());
+  }
+}
@@ -0,0 +1,72 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Notification.model.dto.NotificationDto;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.Notification.service.NotificationCoalescer.Item;
+import goblin.app.User.model.entity.User;
+
+class NotificationCoalescerTest {
+
+  private final NotificationCoalescer coalescer = new NotificationCoalescer(3_000, 15_000);
+
+  private static User user(long id) {
+    User user = new User();
+    user.setId(id);
+    return user;
+  }
+
+  private static NotificationDto dto(NotificationType type, long groupId, long calendarId) {
+    NotificationDto dto = new NotificationDto();
+    dto.setMsgTitle("title");
+    dto.setEventName("event-" + calendarId);
+    dto.setType(type);
+    dto.setGroupId(groupId);
+    dto.setCalendarId(calendarId);
+    return dto;
+  }
+
+  @Test
+  void mergesSameUserTypeAndGroupIntoDigest() {
+    User alice = user(1);
+    User bob = user(2);
+    List<Notification> merged =
+        coalescer.merge(
+            List.of(
+                new Item(alice, dto(NotificationType.EVENT_CREATED, 10, 100)),
+                new Item(bob, dto(NotificationType.EVENT_CREATED, 10, 100)),
+                new Item(alice, dto(NotificationType.EVENT_CREATED, 10, 101)),
+                new Item(alice, dto(NotificationType.EVENT_CREATED, 20, 200)),
+                new Item(alice, dto(NotificationType.EVENT_FIXED, 10, 100))));
+
+    assertThat(merged).hasSize(4);
+    Notification digest = merged.get(0);
+    assertThat(digest.getUser()).isSameAs(alice);
+    assertThat(digest.getMsgTitle()).isEqualTo("새로운 모임 일정이 2개 왔어요!");
+    assertThat(digest.getEventName()).isEqualTo("event-101 외 1건");
+    assertThat(digest.getDetails1()).isEqualTo("event-100, event-101");
+    assertThat(digest.getCalendarId()).isEqualTo(101L);
+    assertThat(merged.get(1).getUser()).isSameAs(bob);
+    assertThat(merged.get(1).getMsgTitle()).isEqualTo("title");
+  }
+
+  @Test
+  void repeatedRequestsForSameCalendarKeepOnlyTheLatest() {
+    User creator = user(1);
+    NotificationDto first = dto(NotificationType.MUST_FIX_EVENT, 10, 100);
+    NotificationDto second = dto(NotificationType.MUST_FIX_EVENT, 10, 100);
+    second.setDetails2("latest");
+
+    List<Notification> merged =
+        coalescer.merge(List.of(new Item(creator, first), new Item(creator, second)));
+
+    assertThat(merged).hasSize(1);
+    assertThat(merged.get(0).getDetails2()).isEqualTo("latest");
+  }
+}
@@ -0,0 +1,116 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.User.model.entity.User;
+
+/*
+ * 여러 트랜잭션이 같은 수신자들에게 동시에 알림을 저장할 때 수신자별 순번이 빈틈/중복 없이 매겨지는지 확인
+ * - 트랜잭션마다 별도 스레드에서 실행
+ * - H2 는 REPEATABLE READ 에서 다른 트랜잭션이 커밋한 행을 UPDATE 하면 오류를 내므로 READ COMMITTED 로 띄움
+ *   (MySQL 의 UPDATE 는 격리 수준과 상관없이 최신 값을 잠그고 갱신)
+ */
+@JdbcTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:delivery_seq;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+      "spring.datasource.hikari.transaction-isolation=TRANSACTION_READ_COMMITTED"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(NotificationDeliverySequence.class)
+class NotificationDeliverySequenceTest {
+
+  private static final int WRITERS = 6;
+  private static final int ROUNDS = 10;
+  private static final List<Long> RECEIVERS = List.of(1L, 2L, 3L);
+
+  @Autowired private NotificationDeliverySequence notificationDeliverySequence;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentFanOutsGetDenseSequencesPerReceiver() throws Exception {
+    Map<Long, List<Long>> assigned = new ConcurrentHashMap<>();
+    CyclicBarrier start = new CyclicBarrier(WRITERS);
+    List<Future<?>> writers = new ArrayList<>();
+    for (int w = 0; w < WRITERS; w++) {
+      int writer = w;
+      writers.add(
+          executor.submit(
+              () -> {
+                start.await(10, TimeUnit.SECONDS);
+                for (int round = 0; round < ROUNDS; round++) {
+                  // 수신자 순서를 섞고 수신자마다 알림 수를 달리해 잠금 순서와 구간 계산을 함께 확인
+                  List<Notification> notifications = new ArrayList<>();
+                  for (int i = 0; i < RECEIVERS.size(); i++) {
+                    Long receiver = RECEIVERS.get((writer + round + i) % RECEIVERS.size());
+                    for (int n = 0; n <= (writer + i) % 2; n++) {
+                      notifications.add(notification(receiver));
+                    }
+                  }
+                  transactionTemplate.executeWithoutResult(
+                      status -> notificationDeliverySequence.assign(notifications));
+                  for (Notification notification : notifications) {
+                    assigned
+                        .computeIfAbsent(
+                            notification.getUser().getId(), id -> new CopyOnWriteArrayList<>())
+                        .add(notification.getDeliverySeq());
+                  }
+                }
+                return null;
+              }));
+    }
+    for (Future<?> writer : writers) {
+      writer.get(60, TimeUnit.SECONDS);
+    }
+
+    for (Long receiver : RECEIVERS) {
+      List<Long> seqs = new ArrayList<>(assigned.get(receiver));
+      seqs.sort(null);
+      assertThat(seqs)
+          .as("receiver %d", receiver)
+          .isEqualTo(LongStream.rangeClosed(1, seqs.size()).boxed().toList());
+    }
+  }
+
+  private static Notification notification(Long receiverId) {
+    User receiver = new User();
+    receiver.setId(receiverId);
+    return Notification.builder()
+        .user(receiver)
+        .msgTitle("title")
+        .eventName("event")
+        .type(NotificationType.EVENT_CREATED)
+        .build();
+  }
+}
@@ -0,0 +1,244 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.User.model.entity.User;
+
+class NotificationOutboxRelayTest {
+
+  // 테스트에서 시간을 직접 움직이는 시계
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2024-11-04T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  private final MutableClock clock = new MutableClock();
+  private final InMemoryNotificationOutboxStore store = new InMemoryNotificationOutboxStore(clock);
+  private final NotificationService notificationService = mock(NotificationService.class);
+  private final SseNotificationSender sender = mock(SseNotificationSender.class);
+  private final NotificationOutboxRelay relay =
+      new NotificationOutboxRelay(
+          store,
+          notificationService,
+          new InMemoryNotificationBus(sender),
+          new NotificationCoalescer(0, 0),
+          TransactionOperations.withoutTransaction(),
+          clock,
+          10,
+          60_000,
+          3,
+          1_000,
+          5_000);
+
+  private static Notification notificationFor(long userId) {
+    User user = new User();
+    user.setId(userId);
+    return Notification.builder()
+        .user(user)
+        .msgTitle("title")
+        .eventName("event")
+        .type(NotificationType.EVENT_CREATED)
+        .build();
+  }
+
+  @Test
+  void persistsAndPushesEachRequestOnce() {
+    NotificationRequestedEvent event =
+        new NotificationRequestedEvent(NotificationType.EVENT_CREATED, 1L);
+    when(notificationService.persistFanOut(List.of(event)))
+        .thenReturn(List.of(notificationFor(1L), notificationFor(2L)));
+    store.append(event, 0);
+
+    assertThat(relay.drain()).isEqualTo(1);
+    assertThat(relay.drain()).isZero();
+
+    verify(notificationService, times(1)).persistFanOut(List.of(event));
+    verify(sender, times(2)).send(any(), any());
+    assertThat(store.pendingCount()).isZero();
+  }
+
+  @Test
+  void retriesWithBackoffThenGivesUpAfterMaxAttempts() {
+    NotificationRequestedEvent event =
+        new NotificationRequestedEvent(NotificationType.EVENT_FIXED, 2L);
+    when(notificationService.persistFanOut(List.of(event)))
+        .thenThrow(new RuntimeException("DB 오류"));
+    store.append(event, 0);
+
+    relay.drain(); // 1회 실패, 1초 뒤 재시도
+    assertThat(relay.drain()).isZero();
+    clock.advance(Duration.ofSeconds(1));
+    relay.drain(); // 2회 실패, 2초 뒤 재시도
+    clock.advance(Duration.ofSeconds(2));
+    relay.drain(); // 3회 실패, 포기
+
+    verify(notificationService, times(3)).persistFanOut(List.of(event));
+    assertThat(store.pendingCount()).isZero();
+    assertThat(store.failedCount()).isEqualTo(1);
+    verify(sender, times(0)).send(any(), any());
+  }
+
+  @Test
+  void retriesFailingRequestAloneWhenBatchFails() {
+    NotificationRequestedEvent good =
+        new NotificationRequestedEvent(NotificationType.EVENT_CREATED, 1L);
+    NotificationRequestedEvent bad =
+        new NotificationRequestedEvent(NotificationType.EVENT_CREATED, 2L);
+    when(notificationService.persistFanOut(List.of(good, bad)))
+        .thenThrow(new RuntimeException("일정을 찾을 수 없습니다."));
+    when(notificationService.persistFanOut(List.of(bad)))
+        .thenThrow(new RuntimeException("일정을 찾을 수 없습니다."));
+    when(notificationService.persistFanOut(List.of(good))).thenReturn(List.of(notificationFor(1L)));
+    store.append(good, 0);
+    store.append(bad, 0);
+
+    relay.drain();
+
+    verify(sender, times(1)).send(any(), any());
+    assertThat(store.pendingCount()).isEqualTo(1); // 실패한 요청만 재시도 대기
+  }
+
+  @Test
+  void retriesBatchWhenPublishFails() {
+    NotificationBus bus = mock(NotificationBus.class);
+    NotificationOutboxRelay relayWithBus =
+        new NotificationOutboxRelay(
+            store,
+            notificationService,
+            bus,
+            new NotificationCoalescer(0, 0),
+            TransactionOperations.withoutTransaction(),
+            clock,
+            10,
+            60_000,
+            3,
+            1_000,
+            5_000);
+    NotificationRequestedEvent event =
+        new NotificationRequestedEvent(NotificationType.EVENT_CREATED, 1L);
+    when(notificationService.persistFanOut(List.of(event)))
+        .thenReturn(List.of(notificationFor(1L)));
+    doThrow(new RuntimeException("전달 기록 실패")).doNothing().when(bus).publish(anyList());
+    store.append(event, 0);
+
+    assertThat(relayWithBus.drain()).isEqualTo(1); // 예외가 drain 밖으로 나가지 않음
+    assertThat(store.pendingCount()).isEqualTo(1); // 묶음을 버리지 않고 재시도 대기
+    clock.advance(Duration.ofSeconds(1));
+    relayWithBus.drain();
+
+    verify(bus, times(2)).publish(anyList());
+    assertThat(store.pendingCount()).isZero();
+    assertThat(store.failedCount()).isZero();
+  }
+
+  @Test
+  void keepsBurstSpanningSeveralPollsInOneBatch() {
+    // 묶음 대기 3초, 최대 15초, 폴링 5초
+    NotificationCoalescer coalescer = new NotificationCoalescer(3_000, 15_000);
+    NotificationOutboxRelay burstRelay =
+        new NotificationOutboxRelay(
+            store,
+            notificationService,
+            new InMemoryNotificationBus(sender),
+            coalescer,
+            TransactionOperations.withoutTransaction(),
+            clock,
+            10,
+            60_000,
+            3,
+            1_000,
+            5_000);
+    when(notificationService.persistFanOut(anyList())).thenReturn(List.of());
+
+    // 2초마다 요청, 폴링이 5초/10초에 돌아도 이미 가져갈 수 있게 된 앞 요청을 떼어 가지 않음
+    List<NotificationRequestedEvent> burst = new ArrayList<>();
+    for (long calendarId = 1; calendarId <= 5; calendarId++) {
+      NotificationRequestedEvent event =
+          new NotificationRequestedEvent(NotificationType.EVENT_CREATED, calendarId);
+      burst.add(event);
+      store.append(event, coalescer.windowMillis());
+      clock.advance(Duration.ofSeconds(1));
+      if (calendarId == 3) {
+        assertThat(burstRelay.drain()).isZero(); // 5초 폴링
+      }
+      clock.advance(Duration.ofSeconds(1));
+    }
+    assertThat(burstRelay.drain()).isZero(); // 10초 폴링, 마지막 요청(8초) 뒤 3초가 지나지 않음
+    clock.advance(Duration.ofSeconds(1));
+    assertThat(burstRelay.drain()).isEqualTo(5); // 11초, 묶음이 닫혀 한 번에 처리
+
+    verify(notificationService, times(1)).persistFanOut(anyList());
+    verify(notificationService).persistFanOut(burst);
+  }
+
+  @Test
+  void closesBurstAtMaxDelayEvenWhileRequestsKeepComing() {
+    NotificationCoalescer coalescer = new NotificationCoalescer(3_000, 15_000);
+    NotificationOutboxRelay burstRelay =
+        new NotificationOutboxRelay(
+            store,
+            notificationService,
+            new InMemoryNotificationBus(sender),
+            coalescer,
+            TransactionOperations.withoutTransaction(),
+            clock,
+            10,
+            60_000,
+            3,
+            1_000,
+            5_000);
+    when(notificationService.persistFanOut(anyList())).thenReturn(List.of());
+
+    // 0, 2, ..., 14초에 요청
+    for (long calendarId = 1; calendarId <= 8; calendarId++) {
+      store.append(
+          new NotificationRequestedEvent(NotificationType.EVENT_CREATED, calendarId),
+          coalescer.windowMillis());
+      assertThat(burstRelay.drain()).isZero();
+      clock.advance(Duration.ofSeconds(2));
+    }
+    clock.advance(Duration.ofSeconds(-1)); // 15초, 첫 요청 뒤 최대 지연
+
+    // 대기 시간이 지난 0~12초 요청은 함께 처리, 14초 요청은 다음 묶음
+    assertThat(burstRelay.drain()).isEqualTo(7);
+    assertThat(store.pendingCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,109 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Notification.model.dto.NotificationResponseDto;
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationType;
+
+class NotificationReplayBufferTest {
+
+  // 테스트에서 시간을 직접 움직이는 시계
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2024-11-04T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  private final MutableClock clock = new MutableClock();
+
+  private static NotificationResponseDto notification(long seq) {
+    Notification notification =
+        Notification.builder()
+            .id(seq)
+            .msgTitle("title")
+            .eventName("event")
+            .type(NotificationType.EVENT_CREATED)
+            .build();
+    notification.assignDeliverySeq(seq);
+    return new NotificationResponseDto(notification);
+  }
+
+  private static List<Long> seqs(List<NotificationResponseDto> notifications) {
+    return notifications.stream().map(NotificationResponseDto::getDeliverySeq).toList();
+  }
+
+  @Test
+  void replaysEntriesAfterLastEventIdAndReportsOverrun() {
+    NotificationReplayBuffer buffer = new NotificationReplayBuffer(3, 10, 60_000, clock);
+    for (long id = 1; id <= 5; id++) {
+      buffer.append(7L, notification(id));
+    }
+
+    assertThat(buffer.since(7L, 3L).map(NotificationReplayBufferTest::seqs))
+        .contains(List.of(4L, 5L));
+    assertThat(buffer.since(7L, 5L).map(NotificationReplayBufferTest::seqs)).contains(List.of());
+    assertThat(buffer.since(7L, 1L)).isEmpty(); // 용량 초과로 밀려남 -> DB 조회
+    assertThat(buffer.since(8L, 1L)).isEmpty(); // 버퍼 없음
+  }
+
+  @Test
+  void expiresEntriesByAgeAndUsersByLru() {
+    NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 2, 60_000, clock);
+    buffer.append(1L, notification(1));
+    clock.advance(Duration.ofSeconds(30));
+    buffer.append(1L, notification(2));
+    clock.advance(Duration.ofSeconds(30));
+
+    assertThat(buffer.since(1L, 0L)).isEmpty(); // 1번은 만료
+    assertThat(buffer.since(1L, 1L).map(NotificationReplayBufferTest::seqs)).contains(List.of(2L));
+    buffer.append(1L, notification(3));
+    assertThat(buffer.since(1L, 2L).map(NotificationReplayBufferTest::seqs)).contains(List.of(3L));
+
+    buffer.append(2L, notification(4));
+    buffer.append(3L, notification(5)); // 사용자 1 이 가장 오래 사용되지 않음
+    assertThat(buffer.userCount()).isEqualTo(2);
+    assertThat(buffer.since(1L, 2L)).isEmpty();
+  }
+
+  @Test
+  void ordersBySequenceAndFallsBackWhileASequenceIsMissing() {
+    NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 10, 60_000, clock);
+    // 다른 노드에서 먼저 커밋된 4번이 늦게 도착
+    buffer.append(7L, notification(3));
+    buffer.append(7L, notification(5));
+    assertThat(buffer.since(7L, 3L)).isEmpty(); // 4번이 빠져 있음 -> DB 조회
+
+    buffer.append(7L, notification(4));
+    buffer.append(7L, notification(5)); // 중복 전달
+    assertThat(buffer.since(7L, 2L).map(NotificationReplayBufferTest::seqs))
+        .contains(List.of(3L, 4L, 5L));
+    assertThat(buffer.since(7L, 4L).map(NotificationReplayBufferTest::seqs)).contains(List.of(5L));
+  }
+}
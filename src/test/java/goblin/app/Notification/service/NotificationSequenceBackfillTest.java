@@ -0,0 +1,81 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import goblin.app.Notification.model.entity.Notification;
+import goblin.app.Notification.model.entity.NotificationRepository;
+import goblin.app.Notification.model.entity.NotificationType;
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+/*
+ * 전달 순번이 없던 예전 알림이 순번을 받아 수신함에서 새 알림 뒤에 id 순서대로 이어지는지 확인
+ */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:sequence_backfill;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(NotificationSequenceBackfill.class)
+class NotificationSequenceBackfillTest {
+
+  @Autowired private NotificationSequenceBackfill notificationSequenceBackfill;
+  @Autowired private NotificationRepository notificationRepository;
+  @Autowired private UserRepository userRepository;
+
+  @Test
+  void backfilledNotificationsPageAfterSequencedOnes() {
+    User user = new User();
+    user.setLoginId("user");
+    user.setUsername("사용자");
+    userRepository.save(user);
+
+    Notification legacy1 = notificationRepository.save(notification(user, "예전 1", null));
+    Notification legacy2 = notificationRepository.save(notification(user, "예전 2", null));
+    notificationRepository.save(notification(user, "새 1", 1L));
+    notificationRepository.save(notification(user, "새 2", 2L));
+
+    notificationSequenceBackfill.afterPropertiesSet();
+    notificationSequenceBackfill.afterPropertiesSet(); // 이미 채운 행은 그대로
+
+    List<Notification> firstPage =
+        notificationRepository.findInbox(user.getId(), Long.MAX_VALUE, false, Limit.of(3));
+    assertThat(firstPage)
+        .extracting(Notification::getMsgTitle)
+        .containsExactly("새 2", "새 1", "예전 2");
+    assertThat(firstPage.get(2).getId()).isEqualTo(legacy2.getId());
+
+    List<Notification> secondPage =
+        notificationRepository.findInbox(
+            user.getId(), firstPage.get(2).getDeliverySeq(), false, Limit.of(3));
+    assertThat(secondPage).extracting(Notification::getId).containsExactly(legacy1.getId());
+    assertThat(secondPage.get(0).getDeliverySeq()).isEqualTo(-1L);
+  }
+
+  private static Notification notification(User user, String title, Long deliverySeq) {
+    Notification notification =
+        Notification.builder()
+            .user(user)
+            .msgTitle(title)
+            .eventName("event")
+            .type(NotificationType.EVENT_CREATED)
+            .build();
+    if (deliverySeq != null) {
+      notification.assignDeliverySeq(deliverySeq);
+    }
+    return notification;
+  }
+}
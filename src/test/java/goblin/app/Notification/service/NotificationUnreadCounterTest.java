@@ -0,0 +1,96 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.Notification.model.entity.NotificationRepository;
+
+class NotificationUnreadCounterTest {
+
+  // 테스트에서 시간을 직접 움직이는 시계
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2024-11-04T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  private final MutableClock clock = new MutableClock();
+  private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+  private final NotificationUnreadCounter counter =
+      new NotificationUnreadCounter(notificationRepository, 100, 60_000, clock);
+
+  @Test
+  void loadsOnceThenAppliesCommittedDeltas() {
+    when(notificationRepository.countByRead(1L, false, false)).thenReturn(3L);
+
+    assertThat(counter.unreadCount(1L)).isEqualTo(3);
+    counter.onUnreadChanged(new NotificationUnreadChangedEvent(Map.of(1L, 2, 2L, 5)));
+    counter.onUnreadChanged(NotificationUnreadChangedEvent.of(1L, -4));
+    assertThat(counter.unreadCount(1L)).isEqualTo(1);
+    counter.onUnreadChanged(NotificationUnreadChangedEvent.of(1L, -10));
+    assertThat(counter.unreadCount(1L)).isZero();
+
+    verify(notificationRepository, times(1)).countByRead(1L, false, false);
+    assertThat(counter.size()).isEqualTo(1); // 적재되지 않은 사용자 2 는 건드리지 않음
+  }
+
+  @Test
+  void doesNotCacheCountLoadedWhileChangeCommitted() {
+    when(notificationRepository.countByRead(1L, false, false))
+        .thenAnswer(
+            invocation -> {
+              // 적재 쿼리가 도는 동안 다른 트랜잭션이 알림을 추가
+              counter.onUnreadChanged(NotificationUnreadChangedEvent.of(1L, 1));
+              return 3L;
+            })
+        .thenReturn(4L);
+
+    assertThat(counter.unreadCount(1L)).isEqualTo(3);
+    assertThat(counter.unreadCount(1L)).isEqualTo(4);
+    assertThat(counter.unreadCount(1L)).isEqualTo(4);
+    verify(notificationRepository, times(2)).countByRead(1L, false, false);
+  }
+
+  @Test
+  void reloadsAfterTtlToPickUpChangesCommittedOnOtherNodes() {
+    when(notificationRepository.countByRead(1L, false, false)).thenReturn(3L).thenReturn(1L);
+
+    assertThat(counter.unreadCount(1L)).isEqualTo(3);
+    counter.onUnreadChanged(NotificationUnreadChangedEvent.of(1L, 1));
+    clock.advance(Duration.ofSeconds(59));
+    assertThat(counter.unreadCount(1L)).isEqualTo(4);
+    clock.advance(Duration.ofSeconds(1)); // 다른 노드에서 3건 읽음 처리됨
+    assertThat(counter.unreadCount(1L)).isEqualTo(1);
+
+    verify(notificationRepository, times(2)).countByRead(1L, false, false);
+  }
+}
@@ -0,0 +1,136 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import goblin.app.Notification.model.entity.EmitterRepository;
+import goblin.app.Notification.service.SseEmitterWriter.Message;
+import goblin.app.Notification.service.SseEmitterWriter.OverflowPolicy;
+
+class SseEmitterWriterTest {
+
+  private static final Pattern EVENT_ID = Pattern.compile("(?m)^id:(\\d+)$");
+
+  // writer 실행 시점을 테스트가 직접 정하는 실행기
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final EmitterRepository emitterRepository = new EmitterRepository(5);
+  private final SseEmitter emitter = mock(SseEmitter.class);
+
+  private SseEmitterWriter writer(OverflowPolicy policy) {
+    return new SseEmitterWriter(emitterRepository, tasks::add, 3, policy, 32);
+  }
+
+  private static Message notification(long id, String kind) {
+    return new Message(String.valueOf(id), "notification", id, kind);
+  }
+
+  private void runWriters() {
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+  }
+
+  @Test
+  void slowEmitterGetsGapEventInsteadOfSkippedSequences() throws IOException {
+    SseEmitterWriter writer = writer(OverflowPolicy.GAP);
+    emitterRepository.save(1L, emitter);
+    for (long id = 1; id <= 5; id++) {
+      writer.enqueue(1L, emitter, notification(id, null));
+    }
+
+    assertThat(tasks).hasSize(1);
+    assertThat(writer.depth(emitter)).isEqualTo(1); // GAP 만 남음
+    assertThat(writer.droppedCount()).isEqualTo(5);
+
+    runWriters();
+    verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    verify(emitter).complete();
+    assertThat(emitterRepository.findAllByUserId(1L)).isEmpty();
+    assertThat(writer.queuedCount()).isZero();
+  }
+
+  @Test
+  void coalescesSameKindWhenFullAndSkipsKeepAliveWhenBusy() {
+    SseEmitterWriter writer = writer(OverflowPolicy.COALESCE);
+    writer.enqueue(1L, emitter, notification(1, "A"));
+    writer.enqueue(1L, emitter, notification(2, "B"));
+    writer.enqueue(1L, emitter, notification(3, "C"));
+    writer.enqueue(1L, emitter, notification(4, "A")); // 1번을 대체
+    writer.enqueueIfIdle(1L, emitter, new Message(null, "keep-alive", "keep-alive", null));
+
+    assertThat(writer.depth(emitter)).isEqualTo(3);
+    assertThat(writer.droppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void disconnectPolicyAndSendFailureRemoveTheEmitter() throws IOException {
+    SseEmitterWriter writer = writer(OverflowPolicy.DISCONNECT);
+    emitterRepository.save(1L, emitter);
+    for (long id = 1; id <= 4; id++) {
+      writer.enqueue(1L, emitter, notification(id, null));
+    }
+    assertThat(writer.disconnectCount()).isEqualTo(1);
+    assertThat(writer.queuedCount()).isZero();
+    assertThat(emitterRepository.findAllByUserId(1L)).isEmpty();
+    verify(emitter).complete();
+
+    SseEmitter broken = mock(SseEmitter.class);
+    doThrow(new IOException("broken pipe"))
+        .when(broken)
+        .send(any(SseEmitter.SseEventBuilder.class));
+    emitterRepository.save(2L, broken);
+    writer.enqueue(2L, broken, notification(5, null));
+    writer.enqueue(2L, broken, notification(6, null));
+    runWriters();
+    assertThat(emitterRepository.findAllByUserId(2L)).isEmpty();
+    assertThat(writer.depth(broken)).isZero();
+  }
+
+  @Test
+  void liveMessagesWaitForReplayAndSkipReplayedSequences() {
+    SseEmitterWriter writer =
+        new SseEmitterWriter(emitterRepository, tasks::add, 10, OverflowPolicy.GAP, 32);
+    List<String> sent = new ArrayList<>();
+    SseEmitter recording =
+        new SseEmitter() {
+          @Override
+          public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+              Matcher id = EVENT_ID.matcher(part.getData().toString());
+              while (id.find()) {
+                sent.add(id.group(1));
+              }
+            }
+          }
+        };
+
+    writer.open(1L, recording);
+    writer.enqueue(1L, recording, notification(4, null)); // 재전송분과 겹치는 실시간 알림
+    writer.enqueue(1L, recording, notification(6, null));
+    assertThat(tasks).isEmpty(); // 재전송 전에는 보내지 않음
+
+    writer.start(recording, List.of(notification(4, null), notification(5, null)), 5);
+    writer.enqueue(1L, recording, notification(5, null)); // 늦게 도착한 중복
+    writer.enqueue(1L, recording, notification(7, null));
+    runWriters();
+
+    assertThat(sent).containsExactly("4", "5", "6", "7");
+    assertThat(writer.queuedCount()).isZero();
+  }
+}
@@ -0,0 +1,40 @@
+package goblin.app.Notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  void returnsEachKeyOncePerRevolutionStartingOneRevolutionAfterAdd() {
+    TimingWheel<Long> wheel = new TimingWheel<>(3);
+    wheel.add(1L);
+    wheel.advance();
+    wheel.add(2L);
+
+    List<List<Long>> ticks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      ticks.add(wheel.advance());
+    }
+
+    assertThat(ticks)
+        .containsExactly(List.of(), List.of(1L), List.of(2L), List.of(), List.of(1L), List.of(2L));
+  }
+
+  @Test
+  void removedOrDuplicateKeysAreNotReturnedTwice() {
+    TimingWheel<Long> wheel = new TimingWheel<>(2);
+    wheel.add(1L);
+    wheel.add(1L);
+    wheel.add(2L);
+    wheel.remove(2L);
+
+    assertThat(wheel.size()).isEqualTo(1);
+    assertThat(wheel.advance()).isEmpty();
+    assertThat(wheel.advance()).containsExactly(1L);
+  }
+}
@@ -0,0 +1,99 @@
+package goblin.app.User.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import goblin.app.User.model.entity.User;
+import goblin.app.User.repository.UserRepository;
+
+class UserCacheTest {
+
+  // 테스트에서 시간을 직접 움직이는 시계
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2024-11-04T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final MutableClock clock = new MutableClock();
+
+  UserCacheTest() {
+    when(userRepository.findByLoginId(anyString()))
+        .thenAnswer(
+            invocation -> {
+              User user = new User();
+              user.setLoginId(invocation.getArgument(0));
+              return Optional.of(user);
+            });
+    when(userRepository.findByLoginId("missing")).thenReturn(Optional.empty());
+  }
+
+  @Test
+  void servesFromCacheUntilTtlExpires() {
+    UserCache cache = new UserCache(userRepository, 10, 60_000, clock);
+
+    cache.findByLoginId("a");
+    clock.advance(Duration.ofSeconds(59));
+    assertThat(cache.findByLoginId("a")).map(User::getLoginId).contains("a");
+    verify(userRepository, times(1)).findByLoginId("a");
+
+    clock.advance(Duration.ofSeconds(1));
+    cache.findByLoginId("a");
+    verify(userRepository, times(2)).findByLoginId("a");
+
+    assertThat(cache.findByLoginId("missing")).isEmpty();
+    assertThat(cache.findByLoginId("missing")).isEmpty();
+    verify(userRepository, times(2)).findByLoginId("missing"); // 없는 사용자는 캐시하지 않음
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedBeyondMaxSize() {
+    UserCache cache = new UserCache(userRepository, 2, 60_000, clock);
+
+    cache.findByLoginId("a");
+    cache.findByLoginId("b");
+    cache.findByLoginId("a"); // a 를 최근 사용으로 갱신
+    cache.findByLoginId("c"); // b 가 제거됨
+
+    assertThat(cache.size()).isEqualTo(2);
+    cache.findByLoginId("a");
+    verify(userRepository, times(1)).findByLoginId("a");
+    cache.findByLoginId("b");
+    verify(userRepository, times(2)).findByLoginId("b");
+
+    cache.evict("b");
+    cache.findByLoginId("b");
+    verify(userRepository, times(3)).findByLoginId("b");
+  }
+}